@@ -0,0 +1,26 @@
+package com.pooroom.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+/**
+ * 적재 정보를 함께 저장하는 캐시 값
+ * 조기 갱신(XFetch) 판단에 쓰도록 재계산 소요 시간과 만료 시각(epoch ms)을 보관
+ */
+@Getter
+public class CacheEnvelope<T> {
+
+    private final T value;
+    private final long loadMillis;
+    private final long expiresAt;
+
+    @JsonCreator
+    public CacheEnvelope(@JsonProperty("value") T value,
+                         @JsonProperty("loadMillis") long loadMillis,
+                         @JsonProperty("expiresAt") long expiresAt) {
+        this.value = value;
+        this.loadMillis = loadMillis;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,67 @@
+package com.pooroom.common.dto;
+
+import com.pooroom.common.util.CursorCodec;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 (COUNT 쿼리 없이 다음 페이지 존재 여부만 제공)
+ */
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorPageResponse() {}
+
+    public CursorPageResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, boolean hasNext, KeysetCursor nextCursor) {
+        return new CursorPageResponse<>(
+            content,
+            size,
+            hasNext,
+            hasNext && nextCursor != null ? CursorCodec.encode(nextCursor) : null
+        );
+    }
+
+    // Getters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    // Setters
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.pooroom.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커서 페이징 위치 (마지막으로 조회한 행의 정렬 키)
+ * group 은 고정글 여부처럼 정렬 키 앞에 오는 구분값 (없으면 0)
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private final int group;
+    private final LocalDateTime sortKey;
+    private final Long id;
+
+    public static KeysetCursor of(LocalDateTime sortKey, Long id) {
+        return new KeysetCursor(0, sortKey, id);
+    }
+}
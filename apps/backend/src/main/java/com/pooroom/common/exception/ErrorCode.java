@@ -11,6 +11,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "서버 오류가 발생했습니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "잘못된 타입값입니다."),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "접근이 거부되었습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C007", "잘못된 커서입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C008", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // User
     EMAIL_DUPLICATION(HttpStatus.CONFLICT, "U001", "이미 사용 중인 이메일입니다."),
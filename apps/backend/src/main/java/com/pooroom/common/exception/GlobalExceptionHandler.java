@@ -3,6 +3,7 @@ package com.pooroom.common.exception;
 import com.pooroom.common.dto.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
@@ -72,6 +73,16 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorCode.getMessage(), errorCode.getCode()));
     }
 
+    @ExceptionHandler(RetryableException.class)
+    protected ResponseEntity<ApiResponse<Object>> handleRetryableException(final RetryableException e) {
+        log.warn("handleRetryableException: {}, retryAfter={}s", e.getMessage(), e.getRetryAfterSeconds());
+        final ErrorCode errorCode = e.getErrorCode();
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage(), errorCode.getCode()));
+    }
+
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ApiResponse<Object>> handleBusinessException(final BusinessException e) {
         log.error("handleBusinessException", e);
@@ -0,0 +1,18 @@
+package com.pooroom.common.exception;
+
+/**
+ * 일시적인 과부하로 거절된 요청 (응답에 Retry-After 헤더 포함)
+ */
+public class RetryableException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RetryableException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.pooroom.common.outbox.entity;
+
+public enum OutboxStatus {
+    PENDING,  // 처리 대기 (처리 중인 이벤트도 임대 만료 전까지 PENDING)
+    DONE,     // 처리 완료
+    FAILED    // 최대 재시도 초과
+}
@@ -0,0 +1,14 @@
+package com.pooroom.common.outbox.service;
+
+/**
+ * 아웃박스 이벤트 소비자
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 (at-least-once) 멱등하게 구현
+ */
+public interface OutboxEventHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    void handle(T payload);
+}
@@ -0,0 +1,55 @@
+package com.pooroom.common.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pooroom.common.outbox.entity.OutboxEvent;
+import com.pooroom.common.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 아웃박스 이벤트 발행
+ * 호출한 트랜잭션에 이벤트를 함께 저장하므로 업무 데이터가 커밋될 때만 이벤트가 남음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .eventType(eventType)
+                .payload(serialize(payload))
+                .build();
+        outboxEventRepository.save(event);
+
+        // 주기 polling 을 기다리지 않고 커밋 직후 바로 처리 요청
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.requestDrain();
+            }
+        });
+        log.debug("아웃박스 이벤트 저장: type={}, aggregate={}:{}", eventType, aggregateType, aggregateId);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
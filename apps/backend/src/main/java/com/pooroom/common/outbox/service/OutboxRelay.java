@@ -0,0 +1,239 @@
+package com.pooroom.common.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pooroom.common.outbox.entity.OutboxEvent;
+import com.pooroom.common.outbox.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 relay
+ * 처리 가능한 이벤트를 SKIP LOCKED 로 batch 단위로 가져와 임대 처리한 뒤 핸들러 실행기에 넘기고,
+ * 완료된 이벤트는 모아서 한 번에 DONE 으로 표시 (임대 만료 전까지 완료되지 않으면 다시 전달)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, List<OutboxEventHandler<?>>> handlers;
+
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final ThreadPoolExecutor workerExecutor;
+    private final ExecutorService drainExecutor;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final Queue<Long> completed = new ConcurrentLinkedQueue<>();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       List<OutboxEventHandler<?>> handlers,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.worker-threads:4}") int workerThreads,
+                       @Value("${outbox.relay.queue-capacity:500}") int queueCapacity,
+                       @Value("${outbox.relay.lease-seconds:60}") long leaseSeconds,
+                       @Value("${outbox.relay.retry-backoff-seconds:10}") long retryBackoffSeconds,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.retention-hours:72}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlers = handlers.stream().collect(Collectors.groupingBy(OutboxEventHandler::eventType));
+        this.batchSize = batchSize;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofHours(retentionHours);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workerExecutor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.drainExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 커밋 직후 호출 - 이미 요청된 drain 이 대기 중이면 합침
+     */
+    public void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            try {
+                drainExecutor.execute(() -> {
+                    drainRequested.set(false);
+                    drain();
+                });
+            } catch (RejectedExecutionException e) {
+                drainRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * 커밋 직후 요청을 놓쳤거나 다른 노드에서 저장된 이벤트, 임대가 만료된 이벤트 처리
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void poll() {
+        drain();
+    }
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 이벤트를 나눠서 삭제
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purgeProcessed() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int total = 0;
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(before, batchSize));
+            total += deleted != null ? deleted : 0;
+        } while (deleted != null && deleted == batchSize);
+
+        if (total > 0) {
+            log.info("처리 완료된 아웃박스 이벤트 정리: count={}", total);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdown();
+        workerExecutor.shutdown();
+        try {
+            workerExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushCompleted();
+    }
+
+    private void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+        try {
+            flushCompleted();
+            while (true) {
+                // 실행기 대기열에 들어갈 수 있는 만큼만 가져와 임대만 걸리고 처리되지 않는 이벤트가 없도록 함
+                int limit = Math.min(batchSize, workerExecutor.getQueue().remainingCapacity());
+                if (limit <= 0) {
+                    return;
+                }
+                List<OutboxEvent> events = claim(limit);
+                events.forEach(this::dispatch);
+                if (events.size() < limit) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 이벤트 전달 실패: error={}", e.getMessage());
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private List<OutboxEvent> claim(int limit) {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> available = outboxEventRepository.findAvailableForUpdate(now, limit);
+            available.forEach(event -> event.lease(now, leaseDuration));
+            return available;
+        });
+        return events != null ? events : Collections.emptyList();
+    }
+
+    private void dispatch(OutboxEvent event) {
+        try {
+            workerExecutor.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            // 임대가 만료되면 다시 전달됨
+            log.warn("아웃박스 실행기 대기열 초과: eventId={}", event.getId());
+        }
+    }
+
+    private void process(OutboxEvent event) {
+        try {
+            for (OutboxEventHandler<?> handler : handlers.getOrDefault(event.getEventType(), Collections.emptyList())) {
+                invoke(handler, event);
+            }
+            completed.add(event.getId());
+        } catch (Exception e) {
+            log.warn("아웃박스 이벤트 처리 실패: eventId={}, type={}, attempts={}, error={}",
+                    event.getId(), event.getEventType(), event.getAttempts(), e.getMessage());
+            recordFailure(event.getId(), e);
+        }
+    }
+
+    private <T> void invoke(OutboxEventHandler<T> handler, OutboxEvent event) throws Exception {
+        T payload = objectMapper.readValue(event.getPayload(), handler.payloadType());
+        handler.handle(payload);
+    }
+
+    private void recordFailure(Long eventId, Exception error) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.findById(eventId).ifPresent(event -> {
+                        // 재시도 간격은 시도 횟수에 따라 두 배씩 증가 (최대 2^6 배)
+                        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(event.getAttempts() - 1, 6));
+                        event.fail(error.toString(), LocalDateTime.now(), backoff, maxAttempts);
+                    }));
+        } catch (Exception e) {
+            log.warn("아웃박스 실패 기록 실패: eventId={}, error={}", eventId, e.getMessage());
+        }
+    }
+
+    private void flushCompleted() {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = completed.poll()) != null) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markDone(ids, LocalDateTime.now()));
+        } catch (Exception e) {
+            completed.addAll(ids);
+            log.warn("아웃박스 완료 표시 실패: count={}, error={}", ids.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.pooroom.common.serializer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 바이너리 캐시 코덱이 다루는 타입 목록
+ * 클래스 이름 대신 고정 ID 로 타입을 기록하고, 필드 구성이 바뀌면 version 을 올려 이전 버전 값은 캐시 미스로 처리
+ * 컨테이너(타입 인자 1개)는 값에서 원소 표본을 꺼내 타입 인자를 결정 (예: PageResponse<OrderResponse>)
+ */
+public class CacheTypeRegistry {
+
+    /** 타입 인자를 알 수 없는 경우 (빈 목록 등) */
+    static final int ANY_TYPE_ID = 0;
+
+    private final Map<Integer, Registration> byId = new HashMap<>();
+    private final Map<Class<?>, Registration> byClass = new HashMap<>();
+
+    public CacheTypeRegistry register(int id, Class<?> type, int version) {
+        return add(new Registration(id, type, version, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <C> CacheTypeRegistry registerContainer(int id, Class<C> type, int version, Function<C, Object> sampleExtractor) {
+        return add(new Registration(id, type, version, value -> sampleExtractor.apply((C) value)));
+    }
+
+    Registration find(Object value) {
+        Registration registration = byClass.get(value.getClass());
+        if (registration == null && value instanceof List) {
+            // ArrayList, List.of(...) 등 구현체와 무관하게 List 로 기록
+            registration = byClass.get(List.class);
+        }
+        return registration;
+    }
+
+    Registration find(int id) {
+        return byId.get(id);
+    }
+
+    private CacheTypeRegistry add(Registration registration) {
+        if (registration.id <= ANY_TYPE_ID || registration.id > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("캐시 타입 ID 범위 오류: " + registration.id);
+        }
+        if (byId.putIfAbsent(registration.id, registration) != null
+                || byClass.putIfAbsent(registration.type, registration) != null) {
+            throw new IllegalArgumentException("중복된 캐시 타입 등록: " + registration.type.getName());
+        }
+        return this;
+    }
+
+    static final class Registration {
+        final int id;
+        final Class<?> type;
+        final int version;
+        private final Function<Object, Object> sampleExtractor;
+
+        private Registration(int id, Class<?> type, int version, Function<Object, Object> sampleExtractor) {
+            if (version < 0 || version > 0xFF) {
+                throw new IllegalArgumentException("캐시 타입 버전 범위 오류: " + version);
+            }
+            this.id = id;
+            this.type = type;
+            this.version = version;
+            this.sampleExtractor = sampleExtractor;
+        }
+
+        boolean isContainer() {
+            return sampleExtractor != null;
+        }
+
+        Object sample(Object value) {
+            return sampleExtractor.apply(value);
+        }
+    }
+}
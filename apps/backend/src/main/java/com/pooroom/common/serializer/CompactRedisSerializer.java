@@ -0,0 +1,184 @@
+package com.pooroom.common.serializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 값 바이너리 직렬화
+ *
+ * 형식: [magic][format version][flags][타입 수 n][(type id:2, version:1) x n][(원본 길이:4, LZ4 일 때)][Smile payload]
+ * - 등록된 타입만 바이너리로 저장하고, 그 외 값은 기존 JSON 직렬화로 저장
+ * - magic 으로 시작하지 않는 값은 기존 JSON 으로 읽어 배포 전 저장된 값도 그대로 사용
+ * - 타입 버전이 맞지 않거나 읽을 수 없는 값은 null (캐시 미스) 로 처리
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCA;
+    static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int MAX_TYPE_DEPTH = 8;
+    // LZ4 블록의 최대 압축률, 원본 길이가 이보다 크면 손상된 헤더로 판단
+    private static final int LZ4_MAX_RATIO = 255;
+
+    private final CacheTypeRegistry registry;
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final ObjectMapper smileMapper;
+    private final TypeFactory typeFactory;
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    public CompactRedisSerializer(CacheTypeRegistry registry, RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.registry = registry;
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+        this.smileMapper = new ObjectMapper(new SmileFactory());
+        this.smileMapper.registerModule(new JavaTimeModule());
+        // 필드 추가는 버전 변경 없이 호환되도록 모르는 필드는 무시
+        this.smileMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.typeFactory = smileMapper.getTypeFactory();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        List<int[]> descriptor = new ArrayList<>();
+        if (value == null || !describe(value, descriptor)) {
+            return fallback.serialize(value);
+        }
+
+        byte[] payload;
+        try {
+            payload = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+
+        byte flags = 0;
+        byte[] body = payload;
+        if (payload.length >= compressionThreshold) {
+            byte[] compressed = compressor.compress(payload);
+            // 압축 효과가 없으면 원본 저장
+            if (compressed.length + Integer.BYTES < payload.length) {
+                flags |= FLAG_LZ4;
+                body = compressed;
+            }
+        }
+
+        boolean lz4 = (flags & FLAG_LZ4) != 0;
+        ByteBuffer buffer = ByteBuffer.allocate(4 + descriptor.size() * 3 + (lz4 ? Integer.BYTES : 0) + body.length);
+        buffer.put(MAGIC).put(FORMAT_VERSION).put(flags).put((byte) descriptor.size());
+        for (int[] entry : descriptor) {
+            buffer.putShort((short) entry[0]).put((byte) entry[1]);
+        }
+        if (lz4) {
+            buffer.putInt(payload.length);
+        }
+        buffer.put(body);
+        return buffer.array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            buffer.get();
+            if (buffer.get() != FORMAT_VERSION) {
+                log.debug("지원하지 않는 캐시 형식 버전, 캐시 미스 처리");
+                return null;
+            }
+            boolean lz4 = (buffer.get() & FLAG_LZ4) != 0;
+            int count = buffer.get();
+            if (count <= 0 || count > MAX_TYPE_DEPTH) {
+                throw new SerializationException("잘못된 타입 기술자 수: " + count);
+            }
+            int[][] descriptor = new int[count][];
+            for (int i = 0; i < count; i++) {
+                descriptor[i] = new int[]{buffer.getShort(), buffer.get() & 0xFF};
+            }
+
+            JavaType type = resolve(descriptor, 0);
+            if (type == null) {
+                log.debug("캐시 타입 버전 불일치, 캐시 미스 처리");
+                return null;
+            }
+
+            if (lz4) {
+                int originalLength = buffer.getInt();
+                // 손상된 길이로 큰 배열을 할당하지 않도록 압축 본문 크기로 상한 검사
+                if (originalLength <= 0 || (long) originalLength > (long) buffer.remaining() * LZ4_MAX_RATIO) {
+                    throw new SerializationException("잘못된 원본 길이: " + originalLength);
+                }
+                byte[] payload = new byte[originalLength];
+                decompressor.decompress(bytes, buffer.position(), payload, 0, originalLength);
+                return smileMapper.readValue(payload, type);
+            }
+            return smileMapper.readValue(bytes, buffer.position(), buffer.remaining(), type);
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 값 역직렬화 실패, 캐시 미스 처리: error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 값의 타입 기술자 생성 (등록되지 않은 타입이 있으면 false)
+     */
+    private boolean describe(Object value, List<int[]> descriptor) {
+        if (descriptor.size() >= MAX_TYPE_DEPTH) {
+            return false;
+        }
+        if (value == null) {
+            descriptor.add(new int[]{CacheTypeRegistry.ANY_TYPE_ID, 0});
+            return true;
+        }
+
+        CacheTypeRegistry.Registration registration = registry.find(value);
+        if (registration == null) {
+            return false;
+        }
+        descriptor.add(new int[]{registration.id, registration.version});
+        return !registration.isContainer() || describe(registration.sample(value), descriptor);
+    }
+
+    private JavaType resolve(int[][] descriptor, int index) {
+        if (index >= descriptor.length) {
+            return null;
+        }
+        int id = descriptor[index][0];
+        if (id == CacheTypeRegistry.ANY_TYPE_ID) {
+            return typeFactory.constructType(Object.class);
+        }
+
+        CacheTypeRegistry.Registration registration = registry.find(id);
+        if (registration == null || registration.version != descriptor[index][1]) {
+            return null;
+        }
+        if (!registration.isContainer()) {
+            return typeFactory.constructType(registration.type);
+        }
+        JavaType parameter = resolve(descriptor, index + 1);
+        return parameter != null ? typeFactory.constructParametricType(registration.type, parameter) : null;
+    }
+}
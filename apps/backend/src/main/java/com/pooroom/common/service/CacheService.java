@@ -1,23 +1,93 @@
 package com.pooroom.common.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pooroom.common.dto.CacheEnvelope;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
+/**
+ * 2단계 캐시 (L1: 로컬 NearCache, L2: Redis)
+ * 세션/리프레시 토큰은 노드 간 지연 없이 일관돼야 하므로 Redis 만 사용
+ * getOrLoad: 같은 키의 동시 미스를 한 번의 적재로 합치고(노드 내 single-flight + Redis 잠금), 만료 직전 키는 백그라운드에서 미리 갱신
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CacheService {
 
     private final RedisService redisService;
+    private final NearCache nearCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final boolean lockEnabled;
+    private final Duration lockTimeout;
+    private final long lockWaitMillis;
+    private final double earlyRefreshBeta;
 
     private static final String USER_SESSION_PREFIX = "user:session:";
     private static final String PRODUCT_CACHE_PREFIX = "product:cache:";
+    private static final String PRODUCT_SNAPSHOT_PREFIX = "product:snapshot:";
     private static final String CATEGORY_CACHE_PREFIX = "category:cache:";
     private static final String BRAND_CACHE_PREFIX = "brand:cache:";
     private static final String REFRESH_TOKEN_PREFIX = "refresh:token:";
+    private static final String TAG_PREFIX = "cache:tag:";
+    private static final String LOCK_PREFIX = "cache:lock:";
+    private static final long LOCK_POLL_MILLIS = 50;
+    private static final int CAS_MAX_ATTEMPTS = 3;
+
+    public CacheService(RedisService redisService,
+                        NearCache nearCache,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${cache.loader.lock-enabled:true}") boolean lockEnabled,
+                        @Value("${cache.loader.lock-timeout-ms:3000}") long lockTimeoutMillis,
+                        @Value("${cache.loader.lock-wait-ms:1000}") long lockWaitMillis,
+                        @Value("${cache.loader.early-refresh-beta:1.0}") double earlyRefreshBeta,
+                        @Value("${cache.loader.refresh-threads:2}") int refreshThreads) {
+        this.redisService = redisService;
+        this.nearCache = nearCache;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lockEnabled = lockEnabled;
+        this.lockTimeout = Duration.ofMillis(lockTimeoutMillis);
+        this.lockWaitMillis = lockWaitMillis;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+
+        // 조기 갱신은 기존 값을 계속 응답하므로 큐가 차면 버려도 됨 (refreshAsync 에서 거절 처리)
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(100), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
 
     public void cacheUserSession(String userId, Object sessionData, Duration duration) {
         String key = USER_SESSION_PREFIX + userId;
@@ -34,44 +104,36 @@ public class CacheService {
         redisService.deleteKey(key);
     }
 
-    public void cacheProduct(Long productId, Object productData, Duration duration) {
-        String key = PRODUCT_CACHE_PREFIX + productId;
-        redisService.setValue(key, productData, duration);
+    public <T> T getOrLoadProduct(Long productId, Class<T> type, Duration duration, Supplier<T> loader) {
+        return getOrLoad(PRODUCT_CACHE_PREFIX + productId, type, duration, loader);
     }
 
-    public Object getCachedProduct(Long productId) {
-        String key = PRODUCT_CACHE_PREFIX + productId;
-        return redisService.getValue(key);
+    public <T> T getOrLoadProductSnapshot(Long productId, Class<T> type, Duration duration, Supplier<T> loader) {
+        return getOrLoad(PRODUCT_SNAPSHOT_PREFIX + productId, type, duration, loader);
     }
-    
+
     public void cacheProductList(String cacheKey, Object productListData, Duration duration) {
         String key = PRODUCT_CACHE_PREFIX + "list:" + cacheKey;
-        redisService.setValue(key, productListData, duration);
+        setValue(key, productListData, duration);
     }
 
     public Object getCachedProductList(String cacheKey) {
         String key = PRODUCT_CACHE_PREFIX + "list:" + cacheKey;
-        return redisService.getValue(key);
+        return getValue(key);
     }
 
-    public void cacheCategories(Object categoriesData, Duration duration) {
-        String key = CATEGORY_CACHE_PREFIX + "all";
-        redisService.setValue(key, categoriesData, duration);
-    }
-
-    public Object getCachedCategories() {
-        String key = CATEGORY_CACHE_PREFIX + "all";
-        return redisService.getValue(key);
+    public <T> T getOrLoadCategories(TypeReference<T> type, Duration duration, Supplier<T> loader) {
+        return getOrLoad(CATEGORY_CACHE_PREFIX + "all", type, duration, loader);
     }
 
     public void cacheBrands(Object brandsData, Duration duration) {
         String key = BRAND_CACHE_PREFIX + "all";
-        redisService.setValue(key, brandsData, duration);
+        setValue(key, brandsData, duration);
     }
 
     public Object getCachedBrands() {
         String key = BRAND_CACHE_PREFIX + "all";
-        return redisService.getValue(key);
+        return getValue(key);
     }
 
     public void storeRefreshToken(String tokenValue, String userId, Duration duration) {
@@ -91,8 +153,21 @@ public class CacheService {
     }
 
     public void invalidateProductCache(Long productId) {
-        String key = PRODUCT_CACHE_PREFIX + productId;
-        redisService.deleteKey(key);
+        invalidateProductCaches(List.of(productId));
+    }
+
+    /**
+     * 여러 상품의 상세/스냅샷 캐시를 다중 키 DEL 한 번으로 무효화
+     */
+    public void invalidateProductCaches(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = productIds.stream()
+                .flatMap(id -> Stream.of(PRODUCT_CACHE_PREFIX + id, PRODUCT_SNAPSHOT_PREFIX + id))
+                .toList();
+        redisService.deleteKeys(keys);
+        nearCache.invalidateAll(keys);
     }
 
     public void invalidateAllProductCache() {
@@ -100,35 +175,298 @@ public class CacheService {
         String newProductsKey = PRODUCT_CACHE_PREFIX + "newProducts".hashCode();
         String recommendedProductsKey = PRODUCT_CACHE_PREFIX + "recommendedProducts".hashCode();
         
-        redisService.deleteKey(newProductsKey);
-        redisService.deleteKey(recommendedProductsKey);
+        deleteValue(newProductsKey);
+        deleteValue(recommendedProductsKey);
         
         log.info("상품 목록 캐시 무효화 완료");
     }
 
     public void invalidateCategoryCache() {
         String key = CATEGORY_CACHE_PREFIX + "all";
-        redisService.deleteKey(key);
+        deleteValue(key);
     }
 
     public void invalidateBrandCache() {
         String key = BRAND_CACHE_PREFIX + "all";
-        redisService.deleteKey(key);
+        deleteValue(key);
     }
 
     public Object get(String key) {
-        return redisService.getValue(key);
+        return getValue(key);
     }
 
     public void put(String key, Object value, Duration duration) {
-        redisService.setValue(key, value, duration);
+        setValue(key, value, duration);
+    }
+
+    /**
+     * 태그를 붙여 저장 (태그 단위로 한 번에 무효화 가능)
+     */
+    public void put(String key, Object value, Duration duration, String... tags) {
+        if (tags.length == 0) {
+            setValue(key, value, duration);
+            return;
+        }
+        redisService.setValueWithTags(key, value, duration, Arrays.stream(tags).map(tag -> TAG_PREFIX + tag).toList());
+        nearCache.invalidate(key);
+    }
+
+    /**
+     * 태그에 등록된 모든 키 삭제 (태그 항목 수에 비례, 키 전체 순회 없음)
+     */
+    public void invalidateTag(String tag) {
+        List<String> keys = redisService.deleteTaggedKeys(TAG_PREFIX + tag);
+        nearCache.invalidateAll(keys);
+        log.debug("태그 캐시 무효화: tag={}, count={}", tag, keys.size());
     }
 
     public void delete(String key) {
-        redisService.deleteKey(key);
+        deleteValue(key);
+    }
+
+    /**
+     * 캐시된 값을 다시 적재하지 않고 직접 수정 (Redis compare-and-set, 조기 갱신용 적재 정보/만료 시각 유지)
+     * @param updater 현재 값 -> 새 값 (null 을 반환하면 수정하지 않음)
+     * @return 수정된 값, 캐시에 없거나 수정하지 못했으면 null (호출 측에서 무효화/적재로 대체)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T update(String key, Class<T> type, UnaryOperator<T> updater) {
+        JavaType javaType = objectMapper.constructType(type);
+        Object written = redisService.compareAndSet(key, raw -> {
+            CacheEnvelope<?> current = toEnvelope(raw, javaType);
+            T next = updater.apply((T) current.getValue());
+            return next != null ? new CacheEnvelope<>(next, current.getLoadMillis(), current.getExpiresAt()) : null;
+        }, CAS_MAX_ATTEMPTS);
+        if (written == null) {
+            return null;
+        }
+        // 다른 노드의 L1 에 남은 이전 값 제거
+        nearCache.invalidate(key);
+        return (T) ((CacheEnvelope<?>) written).getValue();
+    }
+
+    /**
+     * 캐시 조회, 미스면 loader 로 적재 후 저장
+     * - 같은 노드의 동시 미스는 하나의 적재 결과를 공유
+     * - 다른 노드와는 Redis 잠금으로 조율 (잠금을 못 얻으면 잠시 결과를 기다린 뒤 직접 적재)
+     * - 남은 TTL 이 적재 소요 시간에 비해 짧을수록 높은 확률로 백그라운드 조기 갱신 (XFetch)
+     */
+    public <T> T getOrLoad(String key, Class<T> type, Duration duration, Supplier<T> loader, String... tags) {
+        return getOrLoad(key, objectMapper.constructType(type), duration, loader, tags);
+    }
+
+    public <T> T getOrLoad(String key, TypeReference<T> type, Duration duration, Supplier<T> loader, String... tags) {
+        return getOrLoad(key, objectMapper.constructType(type), duration, loader, tags);
     }
 
-    public void deletePattern(String pattern) {
-        redisService.deleteKeysByPattern(pattern);
+    @SuppressWarnings("unchecked")
+    private <T> T getOrLoad(String key, JavaType type, Duration duration, Supplier<T> loader, String[] tags) {
+        CacheEnvelope<?> cached = readEnvelope(key, type);
+        if (cached != null) {
+            if (shouldRefreshEarly(cached)) {
+                refreshAsync(key, type, duration, loader, tags);
+            }
+            return (T) cached.getValue();
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            Object shared = await(key, existing, loader);
+            // 공유한 작업이 결과 없이 끝났으면 (다른 노드가 갱신 중이던 조기 갱신 등) 직접 적재
+            return (T) (shared != null ? shared : loadWithLock(key, type, duration, loader, tags));
+        }
+
+        try {
+            Object value = loadWithLock(key, type, duration, loader, tags);
+            future.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Object await(String key, CompletableFuture<Object> existing, Supplier<?> loader) {
+        try {
+            return existing.get(lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("캐시 적재 대기 시간 초과, 직접 조회: key={}", key);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        }
+    }
+
+    private Object loadWithLock(String key, JavaType type, Duration duration, Supplier<?> loader, String[] tags) {
+        if (!lockEnabled) {
+            return loadAndStore(key, duration, loader, tags);
+        }
+
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        if (redisService.tryLock(lockKey, token, lockTimeout)) {
+            try {
+                // 잠금 대기 중 다른 노드가 적재를 마쳤을 수 있으므로 다시 확인
+                CacheEnvelope<?> cached = readEnvelope(key, type);
+                return cached != null ? cached.getValue() : loadAndStore(key, duration, loader, tags);
+            } finally {
+                redisService.unlock(lockKey, token);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            CacheEnvelope<?> cached = readEnvelope(key, type);
+            if (cached != null) {
+                return cached.getValue();
+            }
+        }
+        log.debug("캐시 잠금 대기 초과, 직접 적재: key={}", key);
+        return loadAndStore(key, duration, loader, tags);
+    }
+
+    private Object loadAndStore(String key, Duration duration, Supplier<?> loader, String[] tags) {
+        long start = System.nanoTime();
+        Object value = loader.get();
+        long loadMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        if (value != null) {
+            CacheEnvelope<?> envelope = new CacheEnvelope<>(value, loadMillis, System.currentTimeMillis() + duration.toMillis());
+            put(key, envelope, duration, tags);
+            log.debug("캐시 적재: key={}, loadMillis={}", key, loadMillis);
+        }
+        return value;
+    }
+
+    private void refreshAsync(String key, JavaType type, Duration duration, Supplier<?> loader, String[] tags) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, future) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key, duration, loader, tags, future));
+        } catch (RejectedExecutionException e) {
+            // 갱신 큐가 가득 차면 이번 갱신은 건너뛰고 기존 값 응답
+            inFlight.remove(key, future);
+            future.complete(null);
+        }
+    }
+
+    private void refresh(String key, Duration duration, Supplier<?> loader, String[] tags, CompletableFuture<Object> future) {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        boolean locked = false;
+        try {
+            // 다른 노드가 이미 갱신 중이면 건너뜀
+            locked = !lockEnabled || redisService.tryLock(lockKey, token, lockTimeout);
+            if (!locked) {
+                future.complete(null);
+                return;
+            }
+            Object value = readOnlyTransaction.execute(status -> loadAndStore(key, duration, loader, tags));
+            future.complete(value);
+            log.debug("캐시 조기 갱신: key={}", key);
+        } catch (Exception e) {
+            log.warn("캐시 조기 갱신 실패: key={}, error={}", key, e.getMessage());
+            future.completeExceptionally(e);
+        } finally {
+            if (locked && lockEnabled) {
+                redisService.unlock(lockKey, token);
+            }
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 갱신
+     */
+    private boolean shouldRefreshEarly(CacheEnvelope<?> envelope) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = envelope.getLoadMillis() * earlyRefreshBeta * -Math.log(random);
+        return System.currentTimeMillis() + gap >= envelope.getExpiresAt();
+    }
+
+    /**
+     * 캐시 값을 요청 타입으로 복원
+     * 바이너리 코덱으로 저장된 값은 이미 타입이 복원되어 있고, 이전 JSON 값은 Map 으로 읽히므로 변환
+     */
+    private CacheEnvelope<?> readEnvelope(String key, JavaType type) {
+        Object local = nearCache.get(key);
+        if (local instanceof CacheEnvelope<?> envelope) {
+            return envelope;
+        }
+
+        Object remote = redisService.getValue(key);
+        nearCache.recordRemote(key, remote != null);
+        if (remote == null) {
+            return null;
+        }
+
+        try {
+            CacheEnvelope<?> envelope = toEnvelope(remote, type);
+            nearCache.put(key, envelope, Duration.ofMillis(Math.max(1, envelope.getExpiresAt() - System.currentTimeMillis())));
+            return envelope;
+        } catch (IllegalArgumentException e) {
+            log.debug("캐시 값 변환 실패, 다시 적재: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private CacheEnvelope<?> toEnvelope(Object raw, JavaType type) {
+        if (raw instanceof CacheEnvelope<?> envelope) {
+            if (envelope.getValue() != null && type.getRawClass().isInstance(envelope.getValue())) {
+                return envelope;
+            }
+            return new CacheEnvelope<>(objectMapper.convertValue(envelope.getValue(), type),
+                    envelope.getLoadMillis(), envelope.getExpiresAt());
+        }
+        if (raw instanceof Map<?, ?> map && map.containsKey("expiresAt") && map.containsKey("value")) {
+            CacheEnvelope<?> stored = objectMapper.convertValue(raw, CacheEnvelope.class);
+            return new CacheEnvelope<>(objectMapper.convertValue(stored.getValue(), type),
+                    stored.getLoadMillis(), stored.getExpiresAt());
+        }
+        // 이전 형식(값만 저장)은 조기 갱신 없이 그대로 사용
+        return new CacheEnvelope<>(objectMapper.convertValue(raw, type), 0, Long.MAX_VALUE);
+    }
+
+    private Object getValue(String key) {
+        Object local = nearCache.get(key);
+        if (local != null) {
+            return local;
+        }
+
+        Object remote = redisService.getValue(key);
+        nearCache.recordRemote(key, remote != null);
+        if (remote != null) {
+            nearCache.put(key, remote, null);
+        }
+        return remote;
+    }
+
+    private void setValue(String key, Object value, Duration duration) {
+        redisService.setValue(key, value, duration);
+        // 호출자 객체를 그대로 보관하지 않도록 L1 은 비우고, 다음 조회 때 Redis 에서 역직렬화된 값으로 채움
+        nearCache.invalidate(key);
+    }
+
+    private void deleteValue(String key) {
+        redisService.deleteKey(key);
+        nearCache.invalidate(key);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package com.pooroom.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.pooroom.common.dto.PageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬(L1) 캐시
+ * Redis(L2) 앞단에서 역직렬화된 객체를 짧게 보관하고, 다른 노드의 변경은 Redis pub/sub 으로 전달받아 무효화
+ */
+@Slf4j
+@Component
+public class NearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private static final String KEY_MESSAGE = "key:";
+    private static final String KEYS_MESSAGE = "keys:";
+    private static final String KEYS_SEPARATOR = "\n";
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, CachedValue> cache;
+    private final Duration maxTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public NearCache(StringRedisTemplate stringRedisTemplate,
+                     RedisMessageListenerContainer listenerContainer,
+                     MeterRegistry meterRegistry,
+                     @Value("${cache.near.max-weight:20000}") long maxWeight,
+                     @Value("${cache.near.ttl-seconds:30}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.maxTtl = Duration.ofSeconds(ttlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, CachedValue value) -> value.weight)
+                .expireAfter(new Expiry<String, CachedValue>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedValue value, long currentTime) {
+                        return value.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedValue value, long currentTime, long currentDuration) {
+                        return value.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedValue value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "near_cache");
+    }
+
+    public Object get(String key) {
+        CachedValue cached = cache.getIfPresent(key);
+        record(key, "l1", cached != null);
+        return cached != null ? cached.value : null;
+    }
+
+    /**
+     * L2 조회 결과 기록 (L1 미스 이후 Redis 히트/미스)
+     */
+    public void recordRemote(String key, boolean hit) {
+        record(key, "l2", hit);
+    }
+
+    /**
+     * L1 TTL 은 L2 TTL 과 설정된 최대값 중 짧은 쪽
+     */
+    public void put(String key, Object value, Duration duration) {
+        if (value == null) {
+            return;
+        }
+        Duration ttl = duration != null && duration.compareTo(maxTtl) < 0 ? duration : maxTtl;
+        cache.put(key, new CachedValue(value, ttl.toNanos(), weigh(value)));
+    }
+
+    public void invalidateLocal(String key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * 로컬 무효화 후 다른 노드에도 전파
+     */
+    public void invalidate(String key) {
+        invalidateLocal(key);
+        publish(KEY_MESSAGE + key);
+    }
+
+    /**
+     * 여러 키를 한 메시지로 전파
+     */
+    public void invalidateAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(keys);
+        publish(KEYS_MESSAGE + String.join(KEYS_SEPARATOR, keys));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] channel) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(DELIMITER);
+        if (index < 0 || body.substring(0, index).equals(nodeId)) {
+            return;
+        }
+
+        String payload = body.substring(index + 1);
+        if (payload.startsWith(KEY_MESSAGE)) {
+            invalidateLocal(payload.substring(KEY_MESSAGE.length()));
+        } else if (payload.startsWith(KEYS_MESSAGE)) {
+            cache.invalidateAll(Arrays.asList(payload.substring(KEYS_MESSAGE.length()).split(KEYS_SEPARATOR)));
+        }
+    }
+
+    private void publish(String payload) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + DELIMITER + payload);
+        } catch (Exception e) {
+            log.warn("로컬 캐시 무효화 전파 실패: payload={}, error={}", payload, e.getMessage());
+        }
+    }
+
+    private void record(String key, String tier, boolean hit) {
+        String prefix = prefixOf(key);
+        String counterKey = prefix + DELIMITER + tier + DELIMITER + hit;
+        counters.computeIfAbsent(counterKey, k -> Counter.builder("cache.requests")
+                .description("2단계 캐시 조회 결과")
+                .tag("prefix", prefix)
+                .tag("tier", tier)
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * 메트릭 태그용 키 접두어 (앞 두 구간, 예: product:cache:12 -> product:cache)
+     */
+    private static String prefixOf(String key) {
+        int first = key.indexOf(':');
+        if (first < 0) {
+            return key;
+        }
+        int second = key.indexOf(':', first + 1);
+        return second < 0 ? key.substring(0, first) : key.substring(0, second);
+    }
+
+    /**
+     * 대략적인 크기 (컬렉션/페이지는 원소 수만큼 가중치)
+     */
+    private static int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + map.size();
+        }
+        if (value instanceof PageResponse<?> page && page.getContent() != null) {
+            return 1 + page.getContent().size();
+        }
+        return 1;
+    }
+
+    private static final class CachedValue {
+        private final Object value;
+        private final long ttlNanos;
+        private final int weight;
+
+        private CachedValue(Object value, long ttlNanos, int weight) {
+            this.value = value;
+            this.ttlNanos = ttlNanos;
+            this.weight = weight;
+        }
+    }
+}
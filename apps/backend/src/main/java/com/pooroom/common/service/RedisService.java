@@ -3,11 +3,24 @@ package com.pooroom.common.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 @Service
@@ -15,8 +28,34 @@ import java.util.concurrent.TimeUnit;
 public class RedisService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
 
+    // 값 저장과 태그 등록을 한 번에 실행 (사이에 태그 무효화가 끼어들어 등록 전 키를 놓치지 않도록)
+    // 태그 TTL 은 등록된 항목 중 가장 긴 TTL 이상으로 유지 / KEYS[1]=키, KEYS[2..]=태그 / ARGV=값, TTL ms
+    private static final byte[] SET_WITH_TAGS_SCRIPT = (
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "for i = 2, #KEYS do " +
+            "  redis.call('SADD', KEYS[i], KEYS[1]) " +
+            "  if redis.call('PTTL', KEYS[i]) < tonumber(ARGV[2]) then redis.call('PEXPIRE', KEYS[i], ARGV[2]) end " +
+            "end " +
+            "return 1").getBytes(StandardCharsets.UTF_8);
+
+    // 태그에 등록된 키와 태그 집합을 원자적으로 삭제하고 삭제한 키 목록 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAG_INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "local keys = redis.call('SMEMBERS', KEYS[1]) " +
+            "for i = 1, #keys, 500 do " +
+            "  redis.call('DEL', unpack(keys, i, math.min(i + 499, #keys))) " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return keys", List.class);
+
+    // 잠금 소유자(token)가 일치할 때만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
     public void setValue(String key, Object value) {
         redisTemplate.opsForValue().set(key, value);
         log.debug("Redis에 키 저장: {}", key);
@@ -67,6 +106,12 @@ public class RedisService {
         return deleted != null && deleted;
     }
 
+    public long deleteKeys(Collection<String> keys) {
+        Long deleted = redisTemplate.delete(keys);
+        log.debug("Redis 키 일괄 삭제: count={}, deleted={}", keys.size(), deleted);
+        return deleted != null ? deleted : 0;
+    }
+
     public boolean expire(String key, Duration timeout) {
         Boolean expired = redisTemplate.expire(key, timeout);
         log.debug("Redis 키 만료시간 설정: {} -> {}", key, expired != null && expired ? "성공" : "실패");
@@ -77,12 +122,82 @@ public class RedisService {
         return redisTemplate.getExpire(key, TimeUnit.SECONDS);
     }
 
-    public void deleteKeysByPattern(String pattern) {
-        try {
-            redisTemplate.delete(redisTemplate.keys(pattern));
-            log.debug("Redis 패턴 키 삭제: {}", pattern);
-        } catch (Exception e) {
-            log.error("Redis 패턴 키 삭제 실패: pattern={}, error={}", pattern, e.getMessage());
+    /**
+     * SET NX PX 기반 분산 잠금 (만료 시간이 지나면 자동 해제)
+     */
+    public boolean tryLock(String lockKey, String token, Duration timeout) {
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, timeout);
+        return acquired != null && acquired;
+    }
+
+    public void unlock(String lockKey, String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+    }
+
+    /**
+     * 값 저장과 태그 등록을 스크립트 한 번(왕복 한 번)으로 원자적으로 실행
+     */
+    public void setValueWithTags(String key, Object value, Duration timeout, Collection<String> tagKeys) {
+        byte[][] keysAndArgs = new byte[tagKeys.size() + 3][];
+        int index = 0;
+        keysAndArgs[index++] = key.getBytes(StandardCharsets.UTF_8);
+        for (String tagKey : tagKeys) {
+            keysAndArgs[index++] = tagKey.getBytes(StandardCharsets.UTF_8);
         }
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        keysAndArgs[index++] = valueSerializer.serialize(value);
+        keysAndArgs[index] = String.valueOf(timeout.toMillis()).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands()
+                .eval(SET_WITH_TAGS_SCRIPT, ReturnType.INTEGER, tagKeys.size() + 1, keysAndArgs));
+        log.debug("Redis에 키 저장 (만료시간: {}, 태그: {}): {}", timeout, tagKeys, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> deleteTaggedKeys(String tagKey) {
+        List<String> deletedKeys = stringRedisTemplate.execute(TAG_INVALIDATE_SCRIPT, List.of(tagKey));
+        log.debug("Redis 태그 무효화: tag={}, keys={}", tagKey, deletedKeys != null ? deletedKeys.size() : 0);
+        return deletedKeys != null ? deletedKeys : Collections.emptyList();
+    }
+
+    /**
+     * WATCH/MULTI 기반 compare-and-set
+     * 현재 값을 읽어 updater 로 새 값을 만들고, 그 사이 다른 쓰기가 있었으면 EXEC 가 취소되므로 maxAttempts 번까지 다시 시도
+     * 남은 TTL 은 그대로 유지
+     * @param updater 현재 값 -> 새 값 (null 을 반환하면 갱신하지 않음)
+     * @return 저장한 새 값 (키가 없거나, updater 가 null 을 반환했거나, 시도 횟수를 모두 충돌로 소진하면 null)
+     */
+    public Object compareAndSet(String key, UnaryOperator<Object> updater, int maxAttempts) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Object[] written = new Object[1];
+            Boolean committed = redisTemplate.execute(new SessionCallback<Boolean>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Boolean execute(RedisOperations operations) {
+                    operations.watch(key);
+                    Object current = operations.opsForValue().get(key);
+                    Long ttlMillis = operations.getExpire(key, TimeUnit.MILLISECONDS);
+                    Object next = current != null ? updater.apply(current) : null;
+                    if (next == null || ttlMillis == null || ttlMillis <= 0) {
+                        operations.unwatch();
+                        return null;
+                    }
+                    operations.multi();
+                    operations.opsForValue().set(key, next, Duration.ofMillis(ttlMillis));
+                    List<Object> results = operations.exec();
+                    written[0] = next;
+                    return results != null && !results.isEmpty();
+                }
+            });
+            if (committed == null) {
+                return null;
+            }
+            if (committed) {
+                log.debug("Redis compare-and-set: key={}, attempt={}", key, attempt);
+                return written[0];
+            }
+        }
+        log.debug("Redis compare-and-set 충돌로 포기: key={}, attempts={}", key, maxAttempts);
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.pooroom.common.util;
+
+import com.pooroom.common.dto.KeysetCursor;
+import com.pooroom.common.exception.BusinessException;
+import com.pooroom.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 문자열 인코딩/디코딩
+ * 클라이언트에는 내부 정렬 키를 노출하지 않는 불투명 문자열(URL-safe Base64)로 전달
+ */
+public final class CursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    /** 커서 페이지 최대 크기 */
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private CursorCodec() {
+    }
+
+    public static String encode(KeysetCursor cursor) {
+        String raw = VERSION + DELIMITER + cursor.getGroup() + DELIMITER + cursor.getSortKey() + DELIMITER + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청 크기를 1~MAX_PAGE_SIZE 로 보정 (과도한 크기로 전체 테이블을 읽거나 0 이하 값이 500 으로 끝나지 않도록)
+     */
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 비어 있으면 첫 페이지로 보고 null 반환
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.pooroom.common.util;
+
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 만료 시각 구간별로 나눈 Bloom filter 묶음
+ * 원소는 만료 시각이 속한 구간의 필터에 넣고, 구간 끝이 지나면 그 안의 원소는 모두 만료됐으므로 필터째 폐기
+ * (원소 삭제 없이 각 필터의 크기/오탐률 유지)
+ */
+public final class ExpiringBloomFilter {
+
+    private final long partitionMillis;
+    private final long expectedPerPartition;
+    private final double falsePositiveRate;
+    private final NavigableMap<Long, BloomFilter> partitions = new ConcurrentSkipListMap<>();
+
+    public ExpiringBloomFilter(long partitionMillis, long expectedPerPartition, double falsePositiveRate) {
+        if (partitionMillis <= 0) {
+            throw new IllegalArgumentException("잘못된 구간 길이: " + partitionMillis);
+        }
+        this.partitionMillis = partitionMillis;
+        this.expectedPerPartition = expectedPerPartition;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 이미 지난 구간에 속하는 원소는 넣지 않음
+     */
+    public void put(String value, long expiresAtMillis, long nowMillis) {
+        long partition = expiresAtMillis / partitionMillis;
+        if (partition < partitionOf(nowMillis)) {
+            return;
+        }
+        partitions.computeIfAbsent(partition, p -> BloomFilter.create(expectedPerPartition, falsePositiveRate))
+                .put(value);
+    }
+
+    /**
+     * 현재 구간 이후 필터만 확인 (폐기 전인 지난 구간도 무시)
+     */
+    public boolean mightContain(String value, long nowMillis) {
+        for (BloomFilter filter : partitions.tailMap(partitionOf(nowMillis), true).values()) {
+            if (filter.mightContain(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 구간 끝이 지난 필터 폐기
+     */
+    public void rotate(long nowMillis) {
+        partitions.headMap(partitionOf(nowMillis), false).clear();
+    }
+
+    public int partitionCount() {
+        return partitions.size();
+    }
+
+    private long partitionOf(long millis) {
+        return millis / partitionMillis;
+    }
+}
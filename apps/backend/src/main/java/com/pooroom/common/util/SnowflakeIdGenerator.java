@@ -0,0 +1,113 @@
+package com.pooroom.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 ID 생성기 (Snowflake)
+ * [부호 1][기준 시각 이후 ms 41][노드 10][순번 12] - 약 69년, 노드 1024개, 노드당 ms 당 4096개
+ *
+ * 마지막 (시각, 순번)을 AtomicLong 하나에 담아 CAS 로 갱신하므로 잠금/객체 생성이 없음
+ * 시계가 되돌아가면 마지막 시각의 남은 순번을 이어서 사용하고, 순번을 다 쓰면 시계가 따라올 때까지 대기해 노드 안에서는 항상 증가
+ * 시계가 허용 범위 이상 되돌아가면 오래 대기하지 않도록 예외
+ */
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long DEFAULT_EPOCH_MILLIS = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static final String ORDER_NUMBER_PREFIX = "ORD";
+    private static final String PAYMENT_KEY_PREFIX = "PAY";
+    // long 최대 자릿수, ID 자릿수가 늘어나도 (2031년 전후 18 -> 19자리) 문자열 정렬이 생성 순서와 같도록 0 으로 채움
+    private static final int ID_DIGITS = 19;
+
+    private final long nodeBits;
+    private final long epochMillis;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock;
+    // (기준 시각 이후 ms << SEQUENCE_BITS) | 순번
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId, long maxBackwardMillis) {
+        this(nodeId, DEFAULT_EPOCH_MILLIS, maxBackwardMillis, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long epochMillis, long maxBackwardMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.epochMillis = epochMillis;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTick = current >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - epochMillis;
+
+            long tick;
+            long sequence;
+            if (now > lastTick) {
+                tick = now;
+                sequence = 0;
+            } else {
+                // 같은 ms 이거나 시계가 되돌아감 - 마지막 시각을 이어서 사용
+                if (lastTick - now > maxBackwardMillis) {
+                    throw new IllegalStateException(
+                            "시스템 시계가 허용 범위 이상 되돌아갔습니다: " + (lastTick - now) + "ms");
+                }
+                tick = lastTick;
+                sequence = (current & SEQUENCE_MASK) + 1;
+                if (sequence > SEQUENCE_MASK) {
+                    // 순번 소진 - 시계가 마지막 시각을 넘어설 때까지 대기
+                    Thread.onSpinWait();
+                    continue;
+                }
+            }
+
+            if (state.compareAndSet(current, (tick << SEQUENCE_BITS) | sequence)) {
+                return (tick << TIMESTAMP_SHIFT) | nodeBits | sequence;
+            }
+        }
+    }
+
+    /**
+     * 주문번호 (ORD + 0 으로 채운 19자리 숫자, 문자열로도 생성 순서대로 정렬됨)
+     */
+    public String nextOrderNumber() {
+        return padded(ORDER_NUMBER_PREFIX, nextId());
+    }
+
+    /**
+     * 결제 요청 키 (PAY + 19자리 이하 숫자)
+     */
+    public String nextPaymentKey() {
+        return PAYMENT_KEY_PREFIX + nextId();
+    }
+
+    private static String padded(String prefix, long id) {
+        String digits = Long.toString(id);
+        StringBuilder builder = new StringBuilder(prefix.length() + ID_DIGITS).append(prefix);
+        for (int i = digits.length(); i < ID_DIGITS; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits).toString();
+    }
+
+    public long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + epochMillis;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
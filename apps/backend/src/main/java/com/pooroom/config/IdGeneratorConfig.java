@@ -0,0 +1,28 @@
+package com.pooroom.config;
+
+import com.pooroom.common.util.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ID 생성기 설정
+ * id.node-id 는 인스턴스마다 다르게 명시해야 하며, 지정하지 않으면 시작하지 않음
+ * (호스트명 해시 등으로 추정하면 두 인스턴스가 1/1024 확률로 같은 노드 ID 를 받아 주문번호가 중복될 수 있음)
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${id.node-id:-1}") long nodeId,
+                                                     @Value("${id.max-clock-backward-ms:5000}") long maxBackwardMillis) {
+        if (nodeId < 0) {
+            throw new IllegalStateException(
+                    "id.node-id(ID_NODE_ID) 를 인스턴스마다 다른 0 ~ " + SnowflakeIdGenerator.MAX_NODE_ID + " 값으로 지정해야 합니다");
+        }
+        log.info("ID 생성기 초기화: nodeId={}", nodeId);
+        return new SnowflakeIdGenerator(nodeId, maxBackwardMillis);
+    }
+}
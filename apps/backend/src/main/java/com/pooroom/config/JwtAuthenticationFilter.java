@@ -2,7 +2,10 @@ package com.pooroom.config;
 
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.domain.auth.dto.AuthenticatedPrincipal;
+import com.pooroom.domain.auth.service.PrincipalCache;
 import com.pooroom.domain.auth.service.SessionService;
+import com.pooroom.domain.auth.service.TokenBlacklist;
 import com.pooroom.domain.user.entity.User;
 import com.pooroom.domain.user.entity.UserStatus;
 import com.pooroom.domain.user.repository.UserRepository;
@@ -31,6 +34,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final SessionService sessionService;
+    private final PrincipalCache principalCache;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,28 +44,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String email = jwtUtil.getEmailFromToken(jwt);
-                String role = jwtUtil.getRoleFromToken(jwt);
+            // 서명 검증은 토큰당 한 번 (검증된 토큰은 만료 전까지 캐시)
+            VerifiedToken token = StringUtils.hasText(jwt) ? jwtUtil.parseVerified(jwt) : null;
 
-                // 사용자 검증 (활성 상태 확인)
-                User user = userRepository.findByEmailAndStatus(email, UserStatus.ACTIVE)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            // 폐기된 토큰 확인 (로컬 Bloom filter 에 걸릴 때만 Redis 조회)
+            if (token != null && tokenBlacklist.isRevoked(token.getTokenId())) {
+                log.debug("폐기된 토큰: jti={}", token.getTokenId());
+                token = null;
+            }
+
+            if (token != null) {
+                String tokenId = token.getTokenId();
 
-                // Redis 세션 유효성 검증
-                if (!sessionService.isSessionValid(user.getId())) {
-                    log.debug("유효하지 않은 세션: userId={}, email={}", user.getId(), email);
-                    SecurityContextHolder.clearContext();
-                    filterChain.doFilter(request, response);
-                    return;
+                // 최근 검증한 토큰이면 DB/Redis 조회 없이 인증
+                AuthenticatedPrincipal principal = tokenId != null ? principalCache.get(tokenId) : null;
+                if (principal == null) {
+                    long version = principalCache.version();
+                    principal = loadPrincipal(token);
+                    if (principal == null) {
+                        SecurityContextHolder.clearContext();
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    if (tokenId != null) {
+                        principalCache.putIfCurrent(tokenId, principal, version);
+                    }
                 }
 
-                // 마지막 활동 시간 업데이트
-                sessionService.updateLastActivity(user.getId());
+                String email = principal.getEmail();
+                String role = principal.getRole();
 
                 // Request에 userId 설정 (Controller에서 사용)
-                request.setAttribute("userId", user.getId());
+                request.setAttribute("userId", principal.getUserId());
                 request.setAttribute("userEmail", email);
+                request.setAttribute("tokenId", tokenId);
+                request.setAttribute("tokenExpiresAt", token.getExpiresAt());
                 
                 // Authentication 객체 생성
                 List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
@@ -79,6 +97,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 사용자 활성 상태와 Redis 세션을 확인하고 마지막 활동 시간 갱신 (세션이 유효하지 않으면 null)
+     */
+    private AuthenticatedPrincipal loadPrincipal(VerifiedToken token) {
+        String email = token.getEmail();
+        String role = token.getRole();
+
+        // 사용자 검증 (활성 상태 확인)
+        User user = userRepository.findByEmailAndStatus(email, UserStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        // Redis 세션 유효성 검증 + 마지막 활동 시간 업데이트
+        if (!sessionService.touchIfValid(user.getId())) {
+            log.debug("유효하지 않은 세션: userId={}, email={}", user.getId(), email);
+            return null;
+        }
+        return new AuthenticatedPrincipal(user.getId(), email, role);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
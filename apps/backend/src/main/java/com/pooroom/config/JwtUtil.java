@@ -1,5 +1,8 @@
 package com.pooroom.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -8,11 +11,16 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -21,13 +29,35 @@ public class JwtUtil {
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    // 검증을 마친 토큰 (키: 토큰 SHA-256 digest, 토큰의 exp 시각에 만료)
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtUtil(@Value("${jwt.secret}") String secret, 
                    @Value("${jwt.expiration}") long expiration,
-                   @Value("${jwt.refresh-expiration}") long refreshExpiration) {
+                   @Value("${jwt.refresh-expiration}") long refreshExpiration,
+                   @Value("${jwt.verified-cache.max-size:50000}") long verifiedCacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiration = expiration * 1000; // 초를 밀리초로 변환
         this.refreshTokenExpiration = refreshExpiration * 1000; // 초를 밀리초로 변환
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateAccessToken(String email, String role) {
@@ -35,6 +65,7 @@ public class JwtUtil {
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("role", role)
                 .setIssuedAt(now)
@@ -43,11 +74,50 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증해 클레임 반환 (유효하지 않거나 만료된 토큰은 null)
+     * 같은 토큰은 만료 전까지 digest 로 캐시해 서명 검증을 반복하지 않음
+     */
+    public VerifiedToken parseVerified(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        Claims claims = verify(token);
+        if (claims == null) {
+            return null;
+        }
+        VerifiedToken verified = new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
     public String getEmailFromToken(String token) {
         Claims claims = parseToken(token);
         return claims.getSubject();
     }
 
+    /**
+     * 토큰 ID (jti), 이전에 발급된 토큰은 null
+     */
+    public String getTokenIdFromToken(String token) {
+        Claims claims = parseToken(token);
+        return claims.getId();
+    }
+
     public String getRoleFromToken(String token) {
         Claims claims = parseToken(token);
         return claims.get("role", String.class);
@@ -63,9 +133,15 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * 서명/만료 검증 후 클레임 반환 (실패 시 null)
+     */
+    private Claims verify(String token) {
         try {
-            parseToken(token);
-            return true;
+            return parseToken(token);
         } catch (ExpiredJwtException e) {
             // 만료된 토큰의 경우 시간을 한국시간으로 변환하여 로그 출력
             Instant expiredAt = e.getClaims().getExpiration().toInstant();
@@ -79,10 +155,10 @@ public class JwtUtil {
             log.debug("JWT 토큰 만료: 만료시간={}, 현재시간={} (한국시간)", 
                     expiredAtKst.format(formatter), 
                     currentTimeKst.format(formatter));
-            return false;
+            return null;
         } catch (JwtException | IllegalArgumentException e) {
             log.debug("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
@@ -91,6 +167,7 @@ public class JwtUtil {
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("type", "refresh")
                 .setIssuedAt(now)
@@ -103,6 +180,15 @@ public class JwtUtil {
         return refreshTokenExpiration / 1000; // 밀리초를 초로 변환
     }
 
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
     private Claims parseToken(String token) {
         return Jwts.parser()
                 .setSigningKey(secretKey)
@@ -1,6 +1,18 @@
 package com.pooroom.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pooroom.common.dto.CacheEnvelope;
+import com.pooroom.common.dto.CursorPageResponse;
+import com.pooroom.common.dto.PageResponse;
+import com.pooroom.common.serializer.CacheTypeRegistry;
+import com.pooroom.common.serializer.CompactRedisSerializer;
+import com.pooroom.domain.auth.dto.UserSession;
+import com.pooroom.domain.cart.dto.CartResponse;
+import com.pooroom.domain.order.dto.OrderResponse;
+import com.pooroom.domain.product.dto.BrandResponse;
+import com.pooroom.domain.product.dto.CategoryResponse;
+import com.pooroom.domain.product.dto.ProductResponse;
+import com.pooroom.domain.product.dto.ProductSnapshot;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,9 +21,12 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 @Configuration
 public class RedisConfig {
 
@@ -29,6 +44,28 @@ public class RedisConfig {
         return new LettuceConnectionFactory(configuration);
     }
 
+    @Value("${cache.codec.compression-threshold-bytes:1024}")
+    private int compressionThresholdBytes;
+
+    /**
+     * 바이너리 코덱으로 저장할 캐시 타입 (ID 는 저장된 값에 기록되므로 재사용 금지, 필드 구성이 바뀌면 버전 증가)
+     */
+    @Bean
+    public CacheTypeRegistry cacheTypeRegistry() {
+        return new CacheTypeRegistry()
+                .registerContainer(1, CacheEnvelope.class, 1, CacheEnvelope::getValue)
+                .registerContainer(2, List.class, 1, list -> list.isEmpty() ? null : list.get(0))
+                .registerContainer(3, PageResponse.class, 1, page -> firstOf(page.getContent()))
+                .registerContainer(4, CursorPageResponse.class, 1, page -> firstOf(page.getContent()))
+                .register(10, ProductResponse.class, 1)
+                .register(11, ProductSnapshot.class, 1)
+                .register(12, CategoryResponse.class, 1)
+                .register(13, BrandResponse.class, 1)
+                .register(20, CartResponse.class, 1)
+                .register(30, OrderResponse.class, 1)
+                .register(40, UserSession.class, 1);
+    }
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate() {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -41,13 +78,29 @@ public class RedisConfig {
         // Hibernate 관련 어노테이션 처리 비활성화
         
         GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+
+        // 등록된 캐시 DTO 는 바이너리(Smile + LZ4), 그 외 값과 이전에 저장된 값은 JSON
+        CompactRedisSerializer valueSerializer =
+                new CompactRedisSerializer(cacheTypeRegistry(), jsonSerializer, compressionThresholdBytes);
         
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(jsonSerializer);
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(jsonSerializer);
+        template.setHashValueSerializer(valueSerializer);
         
         template.afterPropertiesSet();
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // 노드 간 로컬 캐시 무효화 등 pub/sub 메시지 수신용
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    private static Object firstOf(List<?> content) {
+        return content == null || content.isEmpty() ? null : content.get(0);
+    }
 }
\ No newline at end of file
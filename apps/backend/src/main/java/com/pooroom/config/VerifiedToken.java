@@ -0,0 +1,29 @@
+package com.pooroom.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 검증을 마친 JWT 클레임 (불변)
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String tokenId;
+    private final String email;
+    private final String role;
+    private final String type;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
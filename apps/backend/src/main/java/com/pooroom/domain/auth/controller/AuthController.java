@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.time.Instant;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -51,8 +53,12 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request) {
-        authService.logout(request.getRefreshToken());
+    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                                    HttpServletRequest httpRequest) {
+        // 인증 헤더가 있으면 해당 액세스 토큰도 즉시 폐기
+        String tokenId = (String) httpRequest.getAttribute("tokenId");
+        Instant tokenExpiresAt = (Instant) httpRequest.getAttribute("tokenExpiresAt");
+        authService.logout(request.getRefreshToken(), tokenId, tokenExpiresAt);
         return ResponseEntity.ok(ApiResponse.success(messageUtil.getMessage("auth.logout.success")));
     }
 
@@ -0,0 +1,16 @@
+package com.pooroom.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증 필터에서 검증을 마친 사용자 정보 (토큰 ID 단위로 로컬 캐시)
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+}
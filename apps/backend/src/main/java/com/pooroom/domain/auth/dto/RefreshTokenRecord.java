@@ -0,0 +1,26 @@
+package com.pooroom.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 리프레시 토큰 저장소 조회 결과 (토큰 원문은 보관하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenRecord {
+
+    private final Long userId;
+    private final Instant expiresAt;
+    private final boolean revoked;
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+
+    public boolean isValid() {
+        return !revoked && !isExpired();
+    }
+}
@@ -25,9 +25,13 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true, length = 500)
+    // 이전 버전에서 발급된 토큰 원문 (새 토큰은 token_hash 만 저장)
+    @Column(unique = true, length = 500)
     private String token;
 
+    @Column(name = "token_hash", unique = true, length = 64)
+    private String tokenHash;
+
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
@@ -44,7 +48,9 @@ public class RefreshToken {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        isRevoked = false;
+        if (isRevoked == null) {
+            isRevoked = false;
+        }
     }
 
     @PreUpdate
@@ -57,6 +63,14 @@ public class RefreshToken {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 이전 버전 토큰을 해시로 조회할 수 있도록 전환
+     */
+    public void assignTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
     }
@@ -0,0 +1,94 @@
+package com.pooroom.domain.auth.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 일괄 반영 (JDBC batch)
+ * RefreshTokenStore 의 write-behind 큐와 만료 토큰 정리에서 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenBatchRepository {
+
+    // 재시도로 같은 토큰이 다시 들어와도 실패하지 않고 폐기 여부만 합침
+    private static final String INSERT_SQL =
+            "INSERT INTO refresh_tokens (user_id, token_hash, expires_at, is_revoked, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE is_revoked = is_revoked OR VALUES(is_revoked), updated_at = VALUES(updated_at)";
+
+    private static final String REVOKE_SQL =
+            "UPDATE refresh_tokens SET is_revoked = TRUE, updated_at = ? WHERE token_hash = ? AND is_revoked = FALSE";
+
+    private static final String REVOKE_BY_USER_SQL =
+            "UPDATE refresh_tokens SET is_revoked = TRUE, updated_at = ? WHERE user_id = ? AND is_revoked = FALSE";
+
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM refresh_tokens WHERE expires_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Collection<TokenRow> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (TokenRow row : rows) {
+            args.add(new Object[]{row.getUserId(), row.getTokenHash(), Timestamp.from(row.getExpiresAt()), row.isRevoked(),
+                    Timestamp.from(row.getIssuedAt()), timestamp});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    public void revokeAll(Collection<String> tokenHashes, LocalDateTime now) {
+        if (tokenHashes.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(tokenHashes.size());
+        for (String tokenHash : tokenHashes) {
+            args.add(new Object[]{timestamp, tokenHash});
+        }
+        jdbcTemplate.batchUpdate(REVOKE_SQL, args);
+    }
+
+    public void revokeAllByUsers(Collection<Long> userIds, LocalDateTime now) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            args.add(new Object[]{timestamp, userId});
+        }
+        jdbcTemplate.batchUpdate(REVOKE_BY_USER_SQL, args);
+    }
+
+    /**
+     * 만료된 토큰을 최대 limit 건 삭제 (긴 잠금을 피하려고 호출 측에서 나눠 반복)
+     */
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(now), limit);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TokenRow {
+        private final Long userId;
+        private final String tokenHash;
+        private final Instant expiresAt;
+        private final boolean revoked;
+        private final Instant issuedAt;
+    }
+}
@@ -14,6 +14,8 @@ import java.util.Optional;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
     Optional<RefreshToken> findByToken(String token);
 
     Optional<RefreshToken> findByUserAndIsRevokedFalse(User user);
@@ -22,13 +24,5 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("UPDATE RefreshToken rt SET rt.isRevoked = true, rt.updatedAt = :now WHERE rt.user = :user")
     void revokeAllByUser(@Param("user") User user, @Param("now") LocalDateTime now);
 
-    @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
-    void deleteExpiredTokens(@Param("now") LocalDateTime now);
-
-    @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true, rt.updatedAt = :now WHERE rt.expiresAt < :now AND rt.isRevoked = false")
-    void revokeExpiredTokens(@Param("now") LocalDateTime now);
-
     boolean existsByUserAndIsRevokedFalse(User user);
 }
\ No newline at end of file
@@ -2,12 +2,12 @@ package com.pooroom.domain.auth.service;
 
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.common.exception.RetryableException;
 import com.pooroom.config.JwtUtil;
 import com.pooroom.domain.auth.dto.LoginRequest;
 import com.pooroom.domain.auth.dto.LoginResponse;
+import com.pooroom.domain.auth.dto.RefreshTokenRecord;
 import com.pooroom.domain.auth.dto.UserSession;
-import com.pooroom.domain.auth.entity.RefreshToken;
-import com.pooroom.domain.auth.repository.RefreshTokenRepository;
 import com.pooroom.domain.user.dto.UserResponse;
 import com.pooroom.domain.user.entity.User;
 import com.pooroom.domain.user.entity.UserStatus;
@@ -15,11 +15,12 @@ import com.pooroom.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 
 @Slf4j
 @Service
@@ -28,10 +29,12 @@ import java.time.LocalDateTime;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final SessionService sessionService;
+    private final TokenBlacklist tokenBlacklist;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
@@ -39,41 +42,41 @@ public class AuthService {
     @Value("${jwt.refresh-expiration}")
     private long refreshTokenExpiration;
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
         return login(request, null, null);
     }
 
-    @Transactional
+    /**
+     * 비밀번호 검증(해시 실행기 대기 포함)은 트랜잭션 밖에서 수행해 대기 중 DB 커넥션을 점유하지 않음
+     * 사용자 조회와 로그인 시각/재해시 반영만 각각 짧은 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request, String deviceInfo, String ipAddress) {
-        User user = userRepository.findByEmailAndStatus(request.getEmail(), UserStatus.ACTIVE)
+        User found = userRepository.findByEmailAndStatus(request.getEmail(), UserStatus.ACTIVE)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        String verifiedHash = found.getPassword();
+        if (!passwordHashingService.matches(request.getPassword(), verifiedHash)) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
+        String upgradedHash = rehashIfNeeded(found.getId(), verifiedHash, request.getPassword());
 
         // 마지막 로그인 시간 업데이트
-        user.updateLastLogin();
-        userRepository.save(user);
+        User user = transactionTemplate.execute(status -> recordLogin(found.getId(), verifiedHash, upgradedHash));
 
         // 기존 세션 제거 (단일 세션 정책)
         sessionService.removeSession(user.getId());
 
         // 기존 refresh token들 폐기
-        refreshTokenRepository.revokeAllByUser(user, LocalDateTime.now());
+        refreshTokenStore.revokeAll(user.getId());
 
         // JWT 토큰 생성
         String accessToken = jwtUtil.generateAccessToken(user.getEmail(), user.getRole().name());
         String refreshTokenValue = jwtUtil.generateRefreshToken(user.getEmail());
         
-        // Refresh token 저장 (DB)
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(refreshTokenValue)
-                .expiresAt(LocalDateTime.now().plusSeconds(refreshTokenExpiration))
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        // Refresh token 저장 (Redis, DB 는 batch 로 반영)
+        refreshTokenStore.issue(user.getId(), refreshTokenValue, Instant.now().plusSeconds(refreshTokenExpiration));
 
         // Redis 세션 생성
         UserSession session = UserSession.create(
@@ -91,6 +94,36 @@ public class AuthService {
         return LoginResponse.of(accessToken, refreshTokenValue, jwtExpiration, userResponse);
     }
 
+    /**
+     * 설정된 work factor 보다 약한 해시는 평문을 알고 있는 로그인 시점에 재해시
+     * 실행기가 바쁘면 이번 로그인은 그대로 진행하고 다음 로그인에서 다시 시도
+     *
+     * @return 새 해시, 재해시가 필요 없거나 연기됐으면 null
+     */
+    private String rehashIfNeeded(Long userId, String encodedPassword, String rawPassword) {
+        if (!passwordHashingService.needsRehash(encodedPassword)) {
+            return null;
+        }
+        try {
+            return passwordHashingService.encode(rawPassword);
+        } catch (RetryableException e) {
+            log.debug("비밀번호 재해시 연기: userId={}", userId);
+            return null;
+        }
+    }
+
+    private User recordLogin(Long userId, String verifiedHash, String upgradedHash) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        user.updateLastLogin();
+        // 검증 이후 비밀번호가 바뀌었으면 이전 비밀번호로 만든 재해시는 반영하지 않음
+        if (upgradedHash != null && verifiedHash.equals(user.getPassword())) {
+            user.changePassword(upgradedHash);
+            log.info("비밀번호 재해시: userId={}", userId);
+        }
+        return userRepository.save(user);
+    }
+
     public UserResponse getCurrentUser(String email) {
         User user = userRepository.findByEmailAndStatus(email, UserStatus.ACTIVE)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -99,14 +132,17 @@ public class AuthService {
 
     @Transactional
     public LoginResponse refreshAccessToken(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
+        RefreshTokenRecord refreshToken = refreshTokenStore.find(refreshTokenValue);
+        if (refreshToken == null) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
 
         if (!refreshToken.isValid()) {
             throw new BusinessException(ErrorCode.EXPIRED_REFRESH_TOKEN);
         }
 
-        User user = refreshToken.getUser();
+        User user = userRepository.findById(refreshToken.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         if (user.getStatus() != UserStatus.ACTIVE) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
@@ -120,18 +156,29 @@ public class AuthService {
 
     @Transactional
     public void logout(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
+        logout(refreshTokenValue, null, null);
+    }
+
+    @Transactional
+    public void logout(String refreshTokenValue, String accessTokenId, Instant accessTokenExpiresAt) {
+        RefreshTokenRecord refreshToken = refreshTokenStore.find(refreshTokenValue);
+        if (refreshToken == null) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
         
-        // DB에서 refresh token 폐기
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
+        // refresh token 폐기
+        refreshTokenStore.revoke(refreshTokenValue);
 
         // Redis에서 세션 제거
-        User user = refreshToken.getUser();
-        sessionService.removeSession(user.getId());
+        Long userId = refreshToken.getUserId();
+        sessionService.removeSession(userId);
+
+        // 만료 전까지 액세스 토큰 사용 차단
+        if (accessTokenId != null && accessTokenExpiresAt != null) {
+            tokenBlacklist.revoke(accessTokenId, accessTokenExpiresAt);
+        }
         
-        log.info("사용자 로그아웃 완료: userId={}, email={}", user.getId(), user.getEmail());
+        log.info("사용자 로그아웃 완료: userId={}", userId);
     }
 
     @Transactional
@@ -139,8 +186,8 @@ public class AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
-        // DB에서 모든 refresh token 폐기
-        refreshTokenRepository.revokeAllByUser(user, LocalDateTime.now());
+        // 모든 refresh token 폐기
+        refreshTokenStore.revokeAll(userId);
         
         // Redis에서 세션 제거
         sessionService.removeSession(userId);
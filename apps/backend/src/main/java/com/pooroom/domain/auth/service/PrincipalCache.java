@@ -0,0 +1,140 @@
+package com.pooroom.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.pooroom.domain.auth.dto.AuthenticatedPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 사용자 로컬 캐시 (키: 액세스 토큰 ID)
+ * 캐시 히트 시 DB 사용자 조회와 Redis 세션 확인 없이 인증하고,
+ * 로그아웃/강제 로그아웃/토큰 전체 폐기 시 사용자 단위로 무효화해 Redis pub/sub 으로 다른 노드에도 전파
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "auth:principal:invalidate";
+
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, AuthenticatedPrincipal> cache;
+    private final Map<Long, Set<String>> tokenIdsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public PrincipalCache(StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${auth.principal-cache.max-size:100000}") long maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .removalListener((String tokenId, AuthenticatedPrincipal principal, RemovalCause cause) -> {
+                    if (tokenId != null && principal != null) {
+                        unindex(principal.getUserId(), tokenId);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal_cache");
+    }
+
+    public AuthenticatedPrincipal get(String tokenId) {
+        return cache.getIfPresent(tokenId);
+    }
+
+    /**
+     * 검증 시작 시점의 무효화 버전 (검증 도중 무효화가 일어났는지 확인용)
+     */
+    public long version() {
+        return invalidations.get();
+    }
+
+    /**
+     * 검증을 시작한 뒤 무효화가 없었을 때만 저장 (로그아웃 직후 이전 인증 정보가 다시 캐시되는 것 방지)
+     */
+    public void putIfCurrent(String tokenId, AuthenticatedPrincipal principal, long version) {
+        if (invalidations.get() != version) {
+            return;
+        }
+        tokenIdsByUser.computeIfAbsent(principal.getUserId(), k -> ConcurrentHashMap.newKeySet()).add(tokenId);
+        cache.put(tokenId, principal);
+        if (invalidations.get() != version) {
+            cache.invalidate(tokenId);
+        }
+    }
+
+    /**
+     * 사용자의 모든 토큰 인증 정보 무효화 후 다른 노드에 전파
+     */
+    public void invalidateUser(Long userId) {
+        invalidateLocal(userId);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + DELIMITER + userId);
+        } catch (Exception e) {
+            log.warn("인증 캐시 무효화 전파 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] channel) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(DELIMITER);
+        if (index < 0 || body.substring(0, index).equals(nodeId)) {
+            return;
+        }
+        try {
+            invalidateLocal(Long.valueOf(body.substring(index + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 인증 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private void invalidateLocal(Long userId) {
+        invalidations.incrementAndGet();
+        Set<String> tokenIds = tokenIdsByUser.remove(userId);
+        if (tokenIds != null) {
+            cache.invalidateAll(tokenIds);
+        }
+        log.debug("인증 캐시 무효화: userId={}", userId);
+    }
+
+    private void unindex(Long userId, String tokenId) {
+        tokenIdsByUser.computeIfPresent(userId, (id, tokenIds) -> {
+            tokenIds.remove(tokenId);
+            return tokenIds.isEmpty() ? null : tokenIds;
+        });
+    }
+}
@@ -0,0 +1,273 @@
+package com.pooroom.domain.auth.service;
+
+import com.pooroom.domain.auth.dto.RefreshTokenRecord;
+import com.pooroom.domain.auth.entity.RefreshToken;
+import com.pooroom.domain.auth.repository.RefreshTokenBatchRepository;
+import com.pooroom.domain.auth.repository.RefreshTokenBatchRepository.TokenRow;
+import com.pooroom.domain.auth.repository.RefreshTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 리프레시 토큰 저장소
+ * 토큰 원문 대신 SHA-256 해시(고정 64자)를 키로 Redis 에서 조회하고, MySQL 에는 모아 두었다가 주기적으로 batch 반영 (write-behind)
+ * Redis 에 없는 토큰(만료 전 유실, 이전 버전 발급분)만 DB 에서 찾아 Redis 에 다시 적재
+ *
+ * refresh:token:{hash} = hash(userId, expiresAt, revoked), 토큰 만료 시각에 삭제
+ * refresh:user:{userId} = 사용자별 발급 토큰 해시 집합 (일괄 폐기용)
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String USER_PREFIX = "refresh:user:";
+
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_EXPIRES_AT = "expiresAt";
+    private static final String FIELD_REVOKED = "revoked";
+
+    // 키가 남아 있을 때만 폐기 표시 (TTL 유지, 만료된 토큰을 되살리지 않음)
+    private static final String REVOKE_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('HSET', KEYS[1], 'revoked', '1') return 1 end " +
+            "return 0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenBatchRepository refreshTokenBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration refreshTokenTtl;
+    private final int purgeChunkSize;
+
+    // DB 반영 대기 (flush 순서: 사용자 일괄 폐기 -> 신규 저장 -> 개별 폐기)
+    private final Object pendingLock = new Object();
+    private Map<String, TokenRow> pendingInserts = new LinkedHashMap<>();
+    private Set<String> pendingRevokes = new HashSet<>();
+    private Set<Long> pendingUserRevokes = new HashSet<>();
+
+    public RefreshTokenStore(StringRedisTemplate stringRedisTemplate,
+                             RefreshTokenRepository refreshTokenRepository,
+                             RefreshTokenBatchRepository refreshTokenBatchRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+                             @Value("${auth.refresh-token.purge-chunk-size:1000}") int purgeChunkSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenBatchRepository = refreshTokenBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshTokenTtl = Duration.ofSeconds(refreshTokenExpiration);
+        this.purgeChunkSize = purgeChunkSize;
+    }
+
+    public void issue(Long userId, String token, Instant expiresAt) {
+        String tokenHash = hash(token);
+        cache(tokenHash, userId, expiresAt, false);
+        synchronized (pendingLock) {
+            pendingInserts.put(tokenHash, new TokenRow(userId, tokenHash, expiresAt, false, Instant.now()));
+        }
+    }
+
+    /**
+     * 토큰 조회 (저장된 적 없는 토큰은 null)
+     */
+    public RefreshTokenRecord find(String token) {
+        String tokenHash = hash(token);
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(TOKEN_PREFIX + tokenHash);
+            if (!entries.isEmpty()) {
+                return new RefreshTokenRecord(
+                        Long.valueOf((String) entries.get(FIELD_USER_ID)),
+                        Instant.ofEpochMilli(Long.parseLong((String) entries.get(FIELD_EXPIRES_AT))),
+                        "1".equals(entries.get(FIELD_REVOKED)));
+            }
+        } catch (Exception e) {
+            log.warn("리프레시 토큰 Redis 조회 실패, DB 조회: error={}", e.getMessage());
+        }
+        return load(token, tokenHash);
+    }
+
+    public void revoke(String token) {
+        String tokenHash = hash(token);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+                ((StringRedisConnection) connection).eval(REVOKE_SCRIPT, ReturnType.INTEGER, 1, TOKEN_PREFIX + tokenHash));
+        synchronized (pendingLock) {
+            TokenRow pending = pendingInserts.get(tokenHash);
+            if (pending != null) {
+                pendingInserts.put(tokenHash, revoked(pending));
+            } else {
+                pendingRevokes.add(tokenHash);
+            }
+        }
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기 (DB 에는 사용자 단위 UPDATE 한 번으로 반영)
+     */
+    public void revokeAll(Long userId) {
+        String userKey = USER_PREFIX + userId;
+        Set<String> tokenHashes = stringRedisTemplate.opsForSet().members(userKey);
+        if (tokenHashes != null && !tokenHashes.isEmpty()) {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                for (String tokenHash : tokenHashes) {
+                    commands.eval(REVOKE_SCRIPT, ReturnType.INTEGER, 1, TOKEN_PREFIX + tokenHash);
+                }
+                commands.del(userKey);
+                return null;
+            });
+        }
+        synchronized (pendingLock) {
+            pendingInserts.replaceAll((tokenHash, row) -> row.getUserId().equals(userId) ? revoked(row) : row);
+            pendingUserRevokes.add(userId);
+        }
+    }
+
+    /**
+     * 모인 변경을 한 트랜잭션에서 batch 로 반영, 실패하면 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.flush-interval-ms:1000}")
+    public void flush() {
+        Map<String, TokenRow> inserts;
+        Set<String> revokes;
+        Set<Long> userRevokes;
+        synchronized (pendingLock) {
+            if (pendingInserts.isEmpty() && pendingRevokes.isEmpty() && pendingUserRevokes.isEmpty()) {
+                return;
+            }
+            inserts = pendingInserts;
+            revokes = pendingRevokes;
+            userRevokes = pendingUserRevokes;
+            pendingInserts = new LinkedHashMap<>();
+            pendingRevokes = new HashSet<>();
+            pendingUserRevokes = new HashSet<>();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                // 이번에 저장할 토큰은 사용자 일괄 폐기 대상에서 빠지도록 먼저 실행
+                refreshTokenBatchRepository.revokeAllByUsers(userRevokes, now);
+                refreshTokenBatchRepository.insertAll(inserts.values(), now);
+                refreshTokenBatchRepository.revokeAll(revokes, now);
+            });
+            log.debug("리프레시 토큰 DB 반영: inserts={}, revokes={}, userRevokes={}",
+                    inserts.size(), revokes.size(), userRevokes.size());
+        } catch (Exception e) {
+            synchronized (pendingLock) {
+                inserts.forEach((tokenHash, row) -> pendingInserts.merge(tokenHash, row,
+                        (current, failed) -> current.isRevoked() ? current : failed));
+                pendingRevokes.addAll(revokes);
+                pendingUserRevokes.addAll(userRevokes);
+            }
+            log.warn("리프레시 토큰 DB 반영 실패: inserts={}, revokes={}, userRevokes={}, error={}",
+                    inserts.size(), revokes.size(), userRevokes.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 토큰 삭제 (한 번에 purgeChunkSize 건씩 나눠 잠금 시간을 짧게 유지)
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenBatchRepository.deleteExpired(now, purgeChunkSize);
+            total += deleted;
+        } while (deleted == purgeChunkSize);
+
+        if (total > 0) {
+            log.info("만료된 리프레시 토큰 정리: count={}", total);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Redis 에 없는 토큰은 해시로, 이전 버전 토큰은 원문으로 DB 조회 후 Redis 에 다시 적재
+     */
+    private RefreshTokenRecord load(String token, String tokenHash) {
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash(tokenHash);
+        if (found.isEmpty()) {
+            found = refreshTokenRepository.findByToken(token);
+            found.ifPresent(legacy -> {
+                legacy.assignTokenHash(tokenHash);
+                refreshTokenRepository.save(legacy);
+            });
+        }
+        if (found.isEmpty()) {
+            return null;
+        }
+
+        RefreshToken refreshToken = found.get();
+        RefreshTokenRecord record = new RefreshTokenRecord(
+                refreshToken.getUser().getId(),
+                refreshToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant(),
+                refreshToken.getIsRevoked());
+        if (!record.isExpired()) {
+            try {
+                cache(tokenHash, record.getUserId(), record.getExpiresAt(), record.isRevoked());
+            } catch (Exception e) {
+                log.warn("리프레시 토큰 Redis 적재 실패: error={}", e.getMessage());
+            }
+        }
+        return record;
+    }
+
+    private void cache(String tokenHash, Long userId, Instant expiresAt, boolean revoked) {
+        String tokenKey = TOKEN_PREFIX + tokenHash;
+        String userKey = USER_PREFIX + userId;
+        Map<String, String> fields = Map.of(
+                FIELD_USER_ID, userId.toString(),
+                FIELD_EXPIRES_AT, String.valueOf(expiresAt.toEpochMilli()),
+                FIELD_REVOKED, revoked ? "1" : "0");
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            commands.hMSet(tokenKey, fields);
+            commands.pExpireAt(tokenKey, expiresAt.toEpochMilli());
+            commands.sAdd(userKey, tokenHash);
+            commands.expire(userKey, refreshTokenTtl.toSeconds());
+            return null;
+        });
+    }
+
+    private static TokenRow revoked(TokenRow row) {
+        return new TokenRow(row.getUserId(), row.getTokenHash(), row.getExpiresAt(), true, row.getIssuedAt());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.pooroom.domain.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 활동 시간 추적
+ * 요청마다 세션 객체를 다시 쓰지 않고 메모리에 사용자별 마지막 활동 시각만 모아 두었다가,
+ * 주기적으로 sorted set(session:activity, member=userId, score=epoch ms)에 파이프라인으로 일괄 반영
+ */
+@Slf4j
+@Component
+public class SessionActivityTracker {
+
+    static final String ACTIVITY_KEY = "session:activity";
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration sessionTtl;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public SessionActivityTracker(StringRedisTemplate stringRedisTemplate,
+                                  @Value("${jwt.refresh-expiration}") long refreshTokenExpiration) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sessionTtl = Duration.ofSeconds(refreshTokenExpiration);
+    }
+
+    /**
+     * 세션 생성 시 활동 시각 등록 (이후 갱신은 등록된 사용자만 반영)
+     */
+    public void start(Long userId) {
+        pending.remove(userId);
+        stringRedisTemplate.opsForZSet().add(ACTIVITY_KEY, userId.toString(), System.currentTimeMillis());
+    }
+
+    /**
+     * 활동 기록 (메모리에만 기록, 다음 flush 때 반영)
+     */
+    public void touch(Long userId) {
+        pending.merge(userId, System.currentTimeMillis(), Math::max);
+    }
+
+    /**
+     * 마지막 활동 시각 (epoch ms), 세션이 등록되지 않았으면 null
+     * 아직 반영되지 않은 로컬 기록이 더 최신이면 그 값을 사용
+     */
+    public Long lastActivity(Long userId) {
+        Double score = stringRedisTemplate.opsForZSet().score(ACTIVITY_KEY, userId.toString());
+        if (score == null) {
+            return null;
+        }
+        Long local = pending.get(userId);
+        return local != null ? Math.max(local, score.longValue()) : score.longValue();
+    }
+
+    public void remove(Long userId) {
+        pending.remove(userId);
+        stringRedisTemplate.opsForZSet().remove(ACTIVITY_KEY, userId.toString());
+    }
+
+    /**
+     * 모인 활동 시각을 일괄 반영
+     * ZADD XX GT 로 로그아웃 등으로 제거된 세션은 되살리지 않고, 다른 노드의 더 최신 값도 덮어쓰지 않음
+     * 세션 키 TTL 도 함께 연장 (기존에는 요청마다 세션을 다시 저장하며 연장)
+     */
+    @Scheduled(fixedDelayString = "${session.activity.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> snapshot = new HashMap<>(pending);
+        // 스냅샷 이후 다시 기록된 사용자는 다음 flush 에서 반영
+        snapshot.forEach(pending::remove);
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(snapshot.entrySet());
+        RedisZSetCommands.ZAddArgs args = RedisZSetCommands.ZAddArgs.ifExists().gt();
+        try {
+            for (int from = 0; from < entries.size(); from += FLUSH_BATCH_SIZE) {
+                List<Map.Entry<Long, Long>> batch = entries.subList(from, Math.min(from + FLUSH_BATCH_SIZE, entries.size()));
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection commands = (StringRedisConnection) connection;
+                    for (Map.Entry<Long, Long> entry : batch) {
+                        String userId = entry.getKey().toString();
+                        commands.zAdd(ACTIVITY_KEY, entry.getValue(), userId, args);
+                        commands.expire(SessionService.SESSION_PREFIX + userId, sessionTtl.toSeconds());
+                    }
+                    return null;
+                });
+            }
+            log.debug("세션 활동 시각 반영: count={}", entries.size());
+        } catch (Exception e) {
+            // 반영하지 못한 기록은 다음 flush 에서 재시도
+            snapshot.forEach((userId, timestamp) -> pending.merge(userId, timestamp, Math::max));
+            log.warn("세션 활동 시각 반영 실패: count={}, error={}", entries.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 세션 TTL 이 지난 활동 기록 정리 (세션 키는 만료됐지만 sorted set 에 남은 항목)
+     */
+    @Scheduled(fixedDelayString = "${session.activity.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long threshold = System.currentTimeMillis() - sessionTtl.toMillis();
+        Long removed = stringRedisTemplate.opsForZSet().removeRangeByScore(ACTIVITY_KEY, Double.NEGATIVE_INFINITY, threshold);
+        if (removed != null && removed > 0) {
+            log.info("만료된 세션 활동 기록 정리: count={}", removed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
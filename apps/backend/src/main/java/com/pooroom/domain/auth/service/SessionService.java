@@ -8,7 +8,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Slf4j
 @Service
@@ -16,12 +18,14 @@ import java.time.LocalDateTime;
 public class SessionService {
 
     private final RedisService redisService;
+    private final PrincipalCache principalCache;
+    private final SessionActivityTracker activityTracker;
+    private final TokenBlacklist tokenBlacklist;
 
     @Value("${jwt.refresh-expiration}")
     private long refreshTokenExpiration;
 
-    private static final String SESSION_PREFIX = "session:";
-    private static final String BLACKLIST_PREFIX = "blacklist:token:";
+    static final String SESSION_PREFIX = "session:";
     private static final Duration SESSION_TIMEOUT = Duration.ofHours(24);
     private static final Duration ACTIVITY_TIMEOUT = Duration.ofMinutes(30);
 
@@ -29,17 +33,21 @@ public class SessionService {
         String key = SESSION_PREFIX + session.getUserId();
         Duration ttl = Duration.ofSeconds(refreshTokenExpiration);
         redisService.setValue(key, session, ttl);
+        activityTracker.start(session.getUserId());
         log.info("사용자 세션 생성: userId={}, email={}", session.getUserId(), session.getEmail());
     }
 
     public UserSession getSession(Long userId) {
         String key = SESSION_PREFIX + userId;
-        Object rawValue = redisService.getValue(key);
-        if (rawValue != null) {
-            log.debug("Redis에서 세션 raw 데이터 조회: userId={}, 타입={}", userId, rawValue.getClass().getSimpleName());
-        }
         UserSession session = redisService.getValue(key, UserSession.class);
         log.debug("세션 조회 결과: userId={}, session={}", userId, session != null ? "존재" : "null");
+        if (session != null) {
+            // 활동 시각은 세션 객체가 아닌 활동 추적 sorted set 에 기록됨
+            Long lastActivity = activityTracker.lastActivity(userId);
+            if (lastActivity != null) {
+                session.setLastActivity(toLocalDateTime(lastActivity));
+            }
+        }
         return session;
     }
 
@@ -49,21 +57,19 @@ public class SessionService {
         return null;
     }
 
+    /**
+     * 세션 유효성 확인 (활동 추적 sorted set 의 ZSCORE 한 번으로 판단)
+     * 로그아웃/비활성화된 세션은 sorted set 에서 제거되므로 항목이 있으면 활성 세션
+     */
     public boolean isSessionValid(Long userId) {
-        UserSession session = getSession(userId);
-        if (session == null) {
-            log.debug("세션이 존재하지 않음: userId={}", userId);
-            return false;
-        }
-
-        if (!session.isActive()) {
-            log.debug("비활성화된 세션: userId={}", userId);
-            return false;
+        Long lastActivity = activityTracker.lastActivity(userId);
+        if (lastActivity == null) {
+            return migrateLegacySession(userId);
         }
 
         // 마지막 활동이 너무 오래전인지 확인
-        if (session.getLastActivity().isBefore(LocalDateTime.now().minus(ACTIVITY_TIMEOUT))) {
-            log.debug("세션 활동 타임아웃: userId={}, lastActivity={}", userId, session.getLastActivity());
+        if (lastActivity < System.currentTimeMillis() - ACTIVITY_TIMEOUT.toMillis()) {
+            log.debug("세션 활동 타임아웃: userId={}, lastActivity={}", userId, toLocalDateTime(lastActivity));
             removeSession(userId);
             return false;
         }
@@ -71,19 +77,26 @@ public class SessionService {
         return true;
     }
 
-    public void updateLastActivity(Long userId) {
-        UserSession session = getSession(userId);
-        if (session != null && session.isActive()) {
-            session.updateLastActivity();
-            String key = SESSION_PREFIX + userId;
-            Duration ttl = Duration.ofSeconds(refreshTokenExpiration);
-            redisService.setValue(key, session, ttl);
+    /**
+     * 세션 유효성 확인 후 활동 기록 (활동 시각은 메모리에 모았다가 주기적으로 반영)
+     */
+    public boolean touchIfValid(Long userId) {
+        if (!isSessionValid(userId)) {
+            return false;
         }
+        activityTracker.touch(userId);
+        return true;
+    }
+
+    public void updateLastActivity(Long userId) {
+        activityTracker.touch(userId);
     }
 
     public void removeSession(Long userId) {
         String key = SESSION_PREFIX + userId;
         boolean deleted = redisService.deleteKey(key);
+        activityTracker.remove(userId);
+        principalCache.invalidateUser(userId);
         log.info("사용자 세션 제거: userId={}, 성공={}", userId, deleted);
     }
 
@@ -94,19 +107,18 @@ public class SessionService {
             String key = SESSION_PREFIX + userId;
             Duration ttl = Duration.ofSeconds(refreshTokenExpiration);
             redisService.setValue(key, session, ttl);
+            activityTracker.remove(userId);
+            principalCache.invalidateUser(userId);
             log.info("사용자 세션 비활성화: userId={}", userId);
         }
     }
 
     public void addTokenToBlacklist(String jti, Duration expiration) {
-        String key = BLACKLIST_PREFIX + jti;
-        redisService.setValue(key, true, expiration);
-        log.info("토큰 블랙리스트 추가: jti={}", jti);
+        tokenBlacklist.revoke(jti, Instant.now().plus(expiration));
     }
 
     public boolean isTokenBlacklisted(String jti) {
-        String key = BLACKLIST_PREFIX + jti;
-        return redisService.hasKey(key);
+        return tokenBlacklist.isRevoked(jti);
     }
 
     public int getActiveSessionCount(Long userId) {
@@ -122,4 +134,26 @@ public class SessionService {
             removeSession(userId);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 활동 추적 도입 전에 생성된 세션은 세션 객체로 확인하고, 유효하면 활동 추적에 등록
+     */
+    private boolean migrateLegacySession(Long userId) {
+        UserSession session = redisService.getValue(SESSION_PREFIX + userId, UserSession.class);
+        if (session == null || !session.isActive() || session.getLastActivity() == null) {
+            log.debug("유효한 세션이 존재하지 않음: userId={}", userId);
+            return false;
+        }
+        if (session.getLastActivity().isBefore(LocalDateTime.now().minus(ACTIVITY_TIMEOUT))) {
+            log.debug("세션 활동 타임아웃: userId={}, lastActivity={}", userId, session.getLastActivity());
+            removeSession(userId);
+            return false;
+        }
+        activityTracker.start(userId);
+        return true;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
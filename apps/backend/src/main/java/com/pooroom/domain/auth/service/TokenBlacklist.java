@@ -0,0 +1,199 @@
+package com.pooroom.domain.auth.service;
+
+import com.pooroom.common.util.ExpiringBloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 토큰 블랙리스트 (폐기된 jti)
+ * 노드마다 만료 시각 구간별로 나눈 Bloom filter({@link ExpiringBloomFilter})를 두고, 필터에 걸린 경우에만 Redis 를 조회해 확정
+ * 구간이 지나면 그 안의 토큰은 모두 만료됐으므로 필터째 폐기 (원소 삭제 없이 크기 유지)
+ * 폐기는 Redis pub/sub 으로 다른 노드 필터에 전파하고, 시작 시와 주기적으로 Redis 키를 SCAN 해 누락분 보정
+ * 시작 시 SCAN 이 끝까지 성공하기 전에는 필터를 신뢰하지 않고 매 요청 Redis 로 확인 (실패 시 짧은 주기로 재시도)
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "auth:blacklist";
+
+    static final String BLACKLIST_PREFIX = "blacklist:token:";
+
+    private static final String DELIMITER = "|";
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ExpiringBloomFilter filter;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean ready = false;
+
+    public TokenBlacklist(StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          @Value("${auth.blacklist.partition-minutes:60}") long partitionMinutes,
+                          @Value("${auth.blacklist.expected-per-partition:100000}") long expectedPerPartition,
+                          @Value("${auth.blacklist.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.filter = new ExpiringBloomFilter(
+                Duration.ofMinutes(partitionMinutes).toMillis(), expectedPerPartition, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 토큰 폐기 (토큰 만료 시각까지 유지)
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        long ttlMillis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        if (tokenId == null || ttlMillis <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "1", Duration.ofMillis(ttlMillis));
+        addLocal(tokenId, expiresAt.toEpochMilli());
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + tokenId + DELIMITER + expiresAt.toEpochMilli());
+        } catch (Exception e) {
+            log.warn("토큰 블랙리스트 전파 실패 (주기적 동기화로 보정): jti={}, error={}", tokenId, e.getMessage());
+        }
+        log.info("토큰 블랙리스트 추가: jti={}", tokenId);
+    }
+
+    /**
+     * 폐기 여부 (대부분 필터에서 바로 false, 필터에 걸리면 Redis 로 확인)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (ready && !filter.mightContain(tokenId, System.currentTimeMillis())) {
+            return false;
+        }
+        Boolean exists = stringRedisTemplate.hasKey(BLACKLIST_PREFIX + tokenId);
+        return exists != null && exists;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] channel) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            addLocal(parts[1], Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 블랙리스트 메시지: {}", parts[1]);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (synchronize()) {
+            ready = true;
+        }
+    }
+
+    /**
+     * 시작 시 동기화가 실패했으면 성공할 때까지 재시도 (그동안은 Redis 조회로 판정)
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.warm-up-retry-ms:10000}",
+            initialDelayString = "${auth.blacklist.warm-up-retry-ms:10000}")
+    public void retryWarmUp() {
+        if (!ready) {
+            warmUp();
+        }
+    }
+
+    /**
+     * pub/sub 메시지 유실 보정 (필터가 준비된 뒤에만 실행, 준비 전에는 retryWarmUp 이 담당)
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.resync-interval-ms:600000}",
+            initialDelayString = "${auth.blacklist.resync-interval-ms:600000}")
+    public void resync() {
+        if (ready) {
+            synchronize();
+        }
+    }
+
+    /**
+     * Redis 에 남아 있는 블랙리스트 키를 필터에 반영
+     *
+     * @return SCAN 을 끝까지 마쳤으면 true
+     */
+    boolean synchronize() {
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        int count = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    count += addBatch(batch);
+                    batch.clear();
+                }
+            }
+            count += addBatch(batch);
+            log.info("토큰 블랙리스트 필터 동기화: count={}, partitions={}", count, filter.partitionCount());
+            return true;
+        } catch (Exception e) {
+            log.error("토큰 블랙리스트 필터 동기화 실패: error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 구간 끝이 지난 필터 폐기 (해당 구간 토큰은 모두 만료)
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.rotate-interval-ms:60000}")
+    public void rotate() {
+        filter.rotate(System.currentTimeMillis());
+    }
+
+    private int addBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<Object> ttls = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        long now = System.currentTimeMillis();
+        int added = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                addLocal(keys.get(i).substring(BLACKLIST_PREFIX.length()), now + ttl);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private void addLocal(String tokenId, long expiresAtMillis) {
+        filter.put(tokenId, expiresAtMillis, System.currentTimeMillis());
+    }
+}
@@ -1,6 +1,7 @@
 package com.pooroom.domain.board.controller;
 
 import com.pooroom.common.dto.ApiResponse;
+import com.pooroom.common.dto.CursorPageResponse;
 import com.pooroom.common.dto.PageResponse;
 import com.pooroom.domain.board.dto.*;
 import com.pooroom.domain.board.service.BoardService;
@@ -38,6 +39,15 @@ public class BoardController {
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
+    @GetMapping("/categories/{categoryId}/posts/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PostResponse>>> getPostsByCategoryCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<PostResponse> posts = boardService.getPostsByCategoryCursor(categoryId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
     @GetMapping("/categories/{categoryId}/posts/search")
     public ResponseEntity<ApiResponse<PageResponse<PostResponse>>> searchPosts(
             @PathVariable Long categoryId,
@@ -90,6 +100,24 @@ public class BoardController {
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommentResponse>>> getCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<CommentResponse> comments = commentService.getCommentThreads(postId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(comments));
+    }
+
+    @GetMapping("/comments/{commentId}/replies/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommentResponse>>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<CommentResponse> replies = commentService.getReplies(commentId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(replies));
+    }
+
     @PostMapping("/posts/{postId}/comments")
     public ResponseEntity<ApiResponse<CommentResponse>> createComment(
             @PathVariable Long postId,
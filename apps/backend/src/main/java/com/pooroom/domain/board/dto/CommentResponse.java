@@ -23,6 +23,8 @@ public class CommentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<CommentResponse> replies;
+    // 활성 대댓글 전체 수 (스레드 조회에서 replies 는 앞쪽 일부만 담김)
+    private Integer replyCount;
 
     public static CommentResponse from(Comment comment) {
         return CommentResponse.builder()
@@ -6,25 +6,76 @@ import com.pooroom.domain.board.entity.Post;
 import com.pooroom.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c WHERE c.post = :post AND c.status = :status AND c.parent IS NULL ORDER BY c.createdAt ASC")
-    List<Comment> findByPostAndStatusAndParentIsNullOrderByCreatedAtAsc(
-        @Param("post") Post post, 
+    // 게시글의 전체 댓글을 작성자와 함께 한 번에 조회 (트리는 서비스에서 조립)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post = :post AND c.status = :status " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllWithAuthorByPostAndStatus(
+        @Param("post") Post post,
         @Param("status") CommentStatus status);
 
-    @Query("SELECT c FROM Comment c WHERE c.parent = :parent AND c.status = :status ORDER BY c.createdAt ASC")
-    List<Comment> findByParentAndStatusOrderByCreatedAtAsc(
-        @Param("parent") Comment parent, 
-        @Param("status") CommentStatus status);
+    // 최상위 댓글 커서 페이징 (createdAt ASC, id ASC)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post = :post AND c.status = :status AND c.parent IS NULL " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findThreadSliceByPostAndStatus(
+        @Param("post") Post post,
+        @Param("status") CommentStatus status,
+        Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post = :post AND c.status = :status AND c.parent IS NULL AND " +
+           "(c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findThreadSliceByPostAndStatusAfter(
+        @Param("post") Post post,
+        @Param("status") CommentStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+
+    /**
+     * 부모 댓글별 앞쪽 대댓글 ID 와 활성 대댓글 수를 한 번에 조회
+     * 행: [id, parent_id, reply_count] (대댓글이 없는 부모는 결과에 없음)
+     */
+    @Query(value = "SELECT r.id, r.parent_id, r.reply_count FROM (" +
+            "SELECT c.id, c.parent_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn, " +
+            "COUNT(*) OVER (PARTITION BY c.parent_id) AS reply_count " +
+            "FROM comments c WHERE c.parent_id IN (:parentIds) AND c.status = 'ACTIVE') r " +
+            "WHERE r.rn <= :limit ORDER BY r.parent_id, r.rn", nativeQuery = true)
+    List<Object[]> findReplyPreviewIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN :ids ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 대댓글 커서 페이징 (미리보기 이후 구간 조회용)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.parent = :parent AND c.status = :status " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findReplySliceByParentAndStatus(
+        @Param("parent") Comment parent,
+        @Param("status") CommentStatus status,
+        Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.parent = :parent AND c.status = :status AND " +
+           "(c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findReplySliceByParentAndStatusAfter(
+        @Param("parent") Comment parent,
+        @Param("status") CommentStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
 
     @Query("SELECT c FROM Comment c WHERE c.author = :author AND c.status = :status ORDER BY c.createdAt DESC")
     Page<Comment> findByAuthorAndStatusOrderByCreatedAtDesc(
@@ -6,11 +6,13 @@ import com.pooroom.domain.board.entity.BoardCategory;
 import com.pooroom.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,26 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         @Param("status") PostStatus status, 
         Pageable pageable);
 
+    // 커서 페이징 (isPinned DESC, createdAt DESC, id DESC) - 고정글 구간이 끝나면 일반글 구간으로 이어짐
+    @Query("SELECT p FROM Post p WHERE p.category = :category AND p.status = :status " +
+           "ORDER BY p.isPinned DESC, p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByCategoryAndStatus(
+        @Param("category") BoardCategory category,
+        @Param("status") PostStatus status,
+        Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.category = :category AND p.status = :status AND " +
+           "((:pinned = true AND p.isPinned = false) OR " +
+           "(p.isPinned = :pinned AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)))) " +
+           "ORDER BY p.isPinned DESC, p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByCategoryAndStatusAfter(
+        @Param("category") BoardCategory category,
+        @Param("status") PostStatus status,
+        @Param("pinned") Boolean pinned,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable);
+
     @Query("SELECT p FROM Post p WHERE p.status = :status ORDER BY p.isPinned DESC, p.createdAt DESC")
     Page<Post> findByStatusOrderByPinnedAndCreatedAt(@Param("status") PostStatus status, Pageable pageable);
 
@@ -0,0 +1,36 @@
+package com.pooroom.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회수 일괄 반영 (JDBC batch)
+ * 누적 증가분만 더하므로 여러 노드가 각자 반영해도 합계가 맞음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountRepository {
+
+    // updated_at 은 ON UPDATE CURRENT_TIMESTAMP 라 그대로 두도록 명시 (조회는 게시글 수정이 아님)
+    private static final String INCREASE_SQL =
+            "UPDATE posts SET view_count = view_count + ?, updated_at = updated_at WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param deltas 게시글 ID -> 증가분 (호출자가 ID 오름차순으로 전달해야 잠금 순서가 고정됨)
+     */
+    public void increaseAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate(INCREASE_SQL, args);
+    }
+}
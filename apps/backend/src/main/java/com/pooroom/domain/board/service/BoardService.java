@@ -1,18 +1,23 @@
 package com.pooroom.domain.board.service;
 
+import com.pooroom.common.dto.CursorPageResponse;
+import com.pooroom.common.dto.KeysetCursor;
 import com.pooroom.common.dto.PageResponse;
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.common.util.CursorCodec;
 import com.pooroom.domain.board.dto.*;
 import com.pooroom.domain.board.entity.*;
 import com.pooroom.domain.board.repository.*;
 import com.pooroom.domain.user.entity.User;
 import com.pooroom.domain.user.service.UserService;
-import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.dto.ProductSnapshot;
 import com.pooroom.domain.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +34,7 @@ public class BoardService {
     private final CommentRepository commentRepository;
     private final UserService userService;
     private final ProductService productService;
+    private final PostViewCounter postViewCounter;
 
     public List<BoardCategoryResponse> getAllCategories() {
         return boardCategoryRepository.findAllActiveOrderBySortOrder()
@@ -54,6 +60,34 @@ public class BoardService {
         return PageResponse.from(posts.map(PostResponse::fromSummary));
     }
 
+    /**
+     * 커서 기반 게시글 목록 (고정글 우선 최신순, COUNT 쿼리 없음)
+     */
+    public CursorPageResponse<PostResponse> getPostsByCategoryCursor(Long categoryId, String cursor, int size) {
+        BoardCategory category = boardCategoryRepository.findById(categoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+
+        KeysetCursor after = CursorCodec.decode(cursor);
+        Pageable pageable = PageRequest.of(0, CursorCodec.pageSize(size));
+
+        Slice<Post> slice = after == null
+                ? postRepository.findSliceByCategoryAndStatus(category, PostStatus.ACTIVE, pageable)
+                : postRepository.findSliceByCategoryAndStatusAfter(
+                        category, PostStatus.ACTIVE, after.getGroup() == 1, after.getSortKey(), after.getId(), pageable);
+
+        List<Post> posts = slice.getContent();
+        KeysetCursor nextCursor = null;
+        if (!posts.isEmpty()) {
+            Post last = posts.get(posts.size() - 1);
+            nextCursor = new KeysetCursor(Boolean.TRUE.equals(last.getIsPinned()) ? 1 : 0, last.getCreatedAt(), last.getId());
+        }
+
+        List<PostResponse> content = posts.stream()
+                .map(PostResponse::fromSummary)
+                .collect(Collectors.toList());
+        return CursorPageResponse.of(content, pageable.getPageSize(), slice.hasNext(), nextCursor);
+    }
+
     public PageResponse<PostResponse> searchPosts(Long categoryId, String keyword, Pageable pageable) {
         BoardCategory category = boardCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
@@ -64,15 +98,10 @@ public class BoardService {
         return PageResponse.from(posts.map(PostResponse::fromSummary));
     }
 
-    @Transactional
     public PostResponse getPost(Long postId, String currentUserEmail) {
         Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
 
-        // 조회수 증가
-        post.increaseViewCount();
-        postRepository.save(post);
-
         // 비밀글 접근 권한 체크
         if (post.getIsSecret()) {
             User currentUser = userService.findByEmail(currentUserEmail);
@@ -82,7 +111,11 @@ public class BoardService {
             }
         }
 
-        return PostResponse.from(post);
+        // 조회수는 집계기에 모았다가 주기적으로 반영 (읽기 트랜잭션 유지), 응답에는 반영 전 증가분까지 포함
+        postViewCounter.increase(postId);
+        PostResponse response = PostResponse.from(post);
+        response.setViewCount(postViewCounter.liveCount(postId, post.getViewCount()));
+        return response;
     }
 
     @Transactional
@@ -100,8 +133,9 @@ public class BoardService {
 
         // 상품문의/리뷰인 경우 상품 정보 추가
         if (request.getProductId() != null) {
-            Product product = productService.findById(request.getProductId());
-            postBuilder.product(product);
+            // 존재 확인은 캐시된 스냅샷으로, 연관관계는 프록시로 설정 (엔티티 조회 없음)
+            ProductSnapshot product = productService.findSnapshot(request.getProductId());
+            postBuilder.product(productService.getReference(product.getId()));
         }
 
         // 리뷰인 경우 별점 추가
@@ -1,48 +1,161 @@
 package com.pooroom.domain.board.service;
 
+import com.pooroom.common.dto.CursorPageResponse;
+import com.pooroom.common.dto.KeysetCursor;
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.common.util.CursorCodec;
 import com.pooroom.domain.board.dto.CommentResponse;
 import com.pooroom.domain.board.dto.CreateCommentRequest;
 import com.pooroom.domain.board.entity.*;
 import com.pooroom.domain.board.repository.*;
 import com.pooroom.domain.user.entity.User;
 import com.pooroom.domain.user.service.UserService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 댓글 서비스
+ * 댓글 목록은 작성자를 JOIN FETCH 로 함께 읽고 부모/대댓글 트리는 메모리에서 조립 (댓글 수와 무관하게 쿼리 수 고정)
+ */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserService userService;
+    private final int replyPreviewLimit;
+
+    public CommentService(CommentRepository commentRepository,
+                          PostRepository postRepository,
+                          UserService userService,
+                          @Value("${board.comment.reply-preview-limit:3}") int replyPreviewLimit) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.userService = userService;
+        this.replyPreviewLimit = Math.max(replyPreviewLimit, 1);
+    }
 
+    /**
+     * 게시글의 전체 댓글 (한 번의 조회 후 최상위 댓글 아래에 대댓글을 붙임)
+     */
     public List<CommentResponse> getCommentsByPost(Long postId) {
         Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
 
-        List<Comment> comments = commentRepository.findByPostAndStatusAndParentIsNullOrderByCreatedAtAsc(
-                post, CommentStatus.ACTIVE);
-
-        return comments.stream()
-                .map(comment -> {
-                    CommentResponse response = CommentResponse.from(comment);
-                    // 대댓글 로드
-                    List<Comment> replies = commentRepository.findByParentAndStatusOrderByCreatedAtAsc(
-                            comment, CommentStatus.ACTIVE);
-                    response.setReplies(replies.stream()
-                            .map(CommentResponse::from)
-                            .collect(Collectors.toList()));
-                    return response;
-                })
+        List<Comment> comments = commentRepository.findAllWithAuthorByPostAndStatus(post, CommentStatus.ACTIVE);
+
+        List<CommentResponse> threads = new ArrayList<>();
+        Map<Long, List<CommentResponse>> repliesByParent = new HashMap<>();
+        for (Comment comment : comments) {
+            CommentResponse response = CommentResponse.from(comment);
+            if (response.getParentId() == null) {
+                threads.add(response);
+            } else {
+                repliesByParent.computeIfAbsent(response.getParentId(), id -> new ArrayList<>()).add(response);
+            }
+        }
+
+        for (CommentResponse thread : threads) {
+            List<CommentResponse> replies = repliesByParent.getOrDefault(thread.getId(), List.of());
+            thread.setReplies(replies);
+            thread.setReplyCount(replies.size());
+        }
+        return threads;
+    }
+
+    /**
+     * 최상위 댓글 커서 페이징 (오래된 순), 스레드마다 앞쪽 대댓글 일부와 전체 대댓글 수를 포함
+     * 페이지당 최상위 댓글 1회 + 대댓글 미리보기 ID 1회 + 대댓글 본문 1회 조회
+     */
+    public CursorPageResponse<CommentResponse> getCommentThreads(Long postId, String cursor, int size) {
+        Post post = postRepository.findByIdAndStatus(postId, PostStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+
+        KeysetCursor after = CursorCodec.decode(cursor);
+        Pageable pageable = PageRequest.of(0, CursorCodec.pageSize(size));
+
+        Slice<Comment> slice = after == null
+                ? commentRepository.findThreadSliceByPostAndStatus(post, CommentStatus.ACTIVE, pageable)
+                : commentRepository.findThreadSliceByPostAndStatusAfter(
+                        post, CommentStatus.ACTIVE, after.getSortKey(), after.getId(), pageable);
+
+        List<Comment> threads = slice.getContent();
+        List<CommentResponse> content = threads.stream()
+                .map(CommentResponse::from)
                 .collect(Collectors.toList());
+        attachReplyPreviews(content);
+
+        return CursorPageResponse.of(content, pageable.getPageSize(), slice.hasNext(), nextCursor(threads));
+    }
+
+    /**
+     * 대댓글 커서 페이징 (스레드 미리보기 이후 구간을 이어서 조회)
+     */
+    public CursorPageResponse<CommentResponse> getReplies(Long commentId, String cursor, int size) {
+        Comment parent = commentRepository.findById(commentId)
+                .filter(comment -> comment.getStatus() == CommentStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+
+        KeysetCursor after = CursorCodec.decode(cursor);
+        Pageable pageable = PageRequest.of(0, CursorCodec.pageSize(size));
+
+        Slice<Comment> slice = after == null
+                ? commentRepository.findReplySliceByParentAndStatus(parent, CommentStatus.ACTIVE, pageable)
+                : commentRepository.findReplySliceByParentAndStatusAfter(
+                        parent, CommentStatus.ACTIVE, after.getSortKey(), after.getId(), pageable);
+
+        List<Comment> replies = slice.getContent();
+        List<CommentResponse> content = replies.stream()
+                .map(CommentResponse::from)
+                .collect(Collectors.toList());
+        return CursorPageResponse.of(content, pageable.getPageSize(), slice.hasNext(), nextCursor(replies));
+    }
+
+    private void attachReplyPreviews(List<CommentResponse> threads) {
+        if (threads.isEmpty()) {
+            return;
+        }
+        List<Long> parentIds = threads.stream().map(CommentResponse::getId).collect(Collectors.toList());
+
+        List<Long> previewIds = new ArrayList<>();
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        for (Object[] row : commentRepository.findReplyPreviewIds(parentIds, replyPreviewLimit)) {
+            previewIds.add(((Number) row[0]).longValue());
+            replyCounts.put(((Number) row[1]).longValue(), ((Number) row[2]).intValue());
+        }
+
+        Map<Long, List<CommentResponse>> repliesByParent = new HashMap<>();
+        if (!previewIds.isEmpty()) {
+            for (Comment reply : commentRepository.findAllWithAuthorByIdIn(previewIds)) {
+                CommentResponse response = CommentResponse.from(reply);
+                repliesByParent.computeIfAbsent(response.getParentId(), id -> new ArrayList<>()).add(response);
+            }
+        }
+
+        for (CommentResponse thread : threads) {
+            thread.setReplies(repliesByParent.getOrDefault(thread.getId(), List.of()));
+            thread.setReplyCount(replyCounts.getOrDefault(thread.getId(), 0));
+        }
+    }
+
+    private KeysetCursor nextCursor(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return null;
+        }
+        Comment last = comments.get(comments.size() - 1);
+        return KeysetCursor.of(last.getCreatedAt(), last.getId());
     }
 
     @Transactional
@@ -0,0 +1,89 @@
+package com.pooroom.domain.board.service;
+
+import com.pooroom.domain.board.repository.PostViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 집계기
+ * 조회마다 행을 UPDATE 하지 않고 게시글별 LongAdder 에 모았다가 주기적으로 증가분만 batch UPDATE
+ * 증가와 빈 항목 제거는 모두 ConcurrentHashMap.compute 안에서 실행해 직렬화 (제거된 카운터에 증가가 들어가 유실되지 않도록)
+ * 인기 게시글도 조회 경로에서는 행 잠금/쓰기 트랜잭션이 없고, 반영 전 증가분은 이 노드 기준으로 조회수에 더해 보여줌
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private final PostViewCountRepository postViewCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public PostViewCounter(PostViewCountRepository postViewCountRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.postViewCountRepository = postViewCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void increase(Long postId) {
+        add(postId, 1);
+    }
+
+    /**
+     * DB 조회수 + 아직 반영되지 않은 증가분
+     */
+    public int liveCount(Long postId, Integer storedCount) {
+        LongAdder delta = pending.get(postId);
+        int base = storedCount != null ? storedCount : 0;
+        return delta != null ? (int) (base + delta.sum()) : base;
+    }
+
+    /**
+     * 모인 증가분을 게시글 ID 순서로 한 batch 반영, 실패하면 증가분을 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                // 지난 주기 이후 조회가 없던 게시글은 비움 (그 사이 증가가 들어왔으면 유지)
+                pending.computeIfPresent(postId, (id, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> postViewCountRepository.increaseAll(deltas));
+            log.debug("게시글 조회수 반영: posts={}", deltas.size());
+        } catch (Exception e) {
+            deltas.forEach(this::add);
+            log.warn("게시글 조회수 반영 실패: posts={}, error={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private void add(Long postId, long delta) {
+        pending.compute(postId, (id, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -58,9 +58,9 @@ public class CartController {
         return ResponseEntity.ok(ApiResponse.success(cart, message));
     }
 
-    @PutMapping("/items/{cartItemId}")
+    @PutMapping("/items/{productId}")
     public ResponseEntity<ApiResponse<CartResponse>> updateCartItem(
-            @PathVariable Long cartItemId,
+            @PathVariable Long productId,
             @Valid @RequestBody UpdateCartItemRequest request,
             HttpServletRequest httpRequest) {
         
@@ -68,22 +68,22 @@ public class CartController {
         if (userId == null) {
             throw new BusinessException(ErrorCode.USER_NOT_AUTHORIZED);
         }
-        CartResponse cart = cartService.updateCartItem(userId, cartItemId, request);
+        CartResponse cart = cartService.updateCartItem(userId, productId, request);
         
         String message = messageUtil.getMessage("cart.update.success");
         return ResponseEntity.ok(ApiResponse.success(cart, message));
     }
 
-    @DeleteMapping("/items/{cartItemId}")
+    @DeleteMapping("/items/{productId}")
     public ResponseEntity<ApiResponse<CartResponse>> removeFromCart(
-            @PathVariable Long cartItemId,
+            @PathVariable Long productId,
             HttpServletRequest httpRequest) {
         
         Long userId = (Long) httpRequest.getAttribute("userId");
         if (userId == null) {
             throw new BusinessException(ErrorCode.USER_NOT_AUTHORIZED);
         }
-        CartResponse cart = cartService.removeFromCart(userId, cartItemId);
+        CartResponse cart = cartService.removeFromCart(userId, productId);
         
         String message = messageUtil.getMessage("cart.remove.success");
         return ResponseEntity.ok(ApiResponse.success(cart, message));
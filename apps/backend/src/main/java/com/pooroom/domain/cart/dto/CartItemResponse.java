@@ -2,6 +2,7 @@ package com.pooroom.domain.cart.dto;
 
 import com.pooroom.domain.cart.entity.CartItem;
 import com.pooroom.domain.product.dto.ProductResponse;
+import com.pooroom.domain.product.entity.Product;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Getter
 @NoArgsConstructor
@@ -38,6 +40,38 @@ public class CartItemResponse {
                 .build();
     }
 
+    /**
+     * 장바구니 저장소의 상품 한 줄로 생성 (id 는 상품 ID, 장바구니 안에서 상품 ID 당 한 줄)
+     */
+    public static CartItemResponse of(CartLine line, ProductSummary product) {
+        LocalDateTime addedAt = LocalDateTime.ofInstant(line.getAddedAt(), ZoneId.systemDefault());
+        return CartItemResponse.builder()
+                .id(line.getProductId())
+                .product(product)
+                .quantity(line.getQuantity())
+                .unitPrice(line.getUnitPrice())
+                .totalPrice(line.getTotalPrice())
+                .createdAt(addedAt)
+                .updatedAt(addedAt)
+                .build();
+    }
+
+    /**
+     * 수량만 바꾼 사본 (단가는 담을 당시 값 유지)
+     */
+    public CartItemResponse withQuantity(int quantity) {
+        return CartItemResponse.builder()
+                .id(id)
+                .cartId(cartId)
+                .product(product)
+                .quantity(quantity)
+                .unitPrice(unitPrice)
+                .totalPrice(unitPrice.multiply(BigDecimal.valueOf(quantity)))
+                .createdAt(createdAt)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -55,7 +89,7 @@ public class CartItemResponse {
         private ProductResponse.BrandSummary brand;
         private ProductResponse.CategorySummary category;
         
-        public static ProductSummary from(com.pooroom.domain.product.entity.Product product) {
+        public static ProductSummary from(Product product) {
             return ProductSummary.builder()
                     .id(product.getId())
                     .name(product.getName())
@@ -69,5 +103,24 @@ public class CartItemResponse {
                     .category(ProductResponse.CategorySummary.from(product.getCategory()))
                     .build();
         }
+
+        /**
+         * 캐시된 상품 응답으로 생성 (장바구니 캐시에 새 상품을 추가할 때 DB 조회 없이 사용)
+         */
+        public static ProductSummary from(ProductResponse product) {
+            return ProductSummary.builder()
+                    .id(product.getId())
+                    .name(product.getName())
+                    .currentPrice(product.getPrice())
+                    .discountPrice(product.getDiscountPrice())
+                    .stockQuantity(product.getStockQuantity())
+                    .mainImageUrl(product.getMainImageUrl())
+                    .unsplashImageUrl(product.getUnsplashImageUrl())
+                    .isOnSale(product.getIsOnSale())
+                    .isInStock(product.getIsInStock())
+                    .brand(product.getBrand())
+                    .category(product.getCategory())
+                    .build();
+        }
     }
 }
\ No newline at end of file
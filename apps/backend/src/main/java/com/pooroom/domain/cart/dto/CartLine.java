@@ -0,0 +1,25 @@
+package com.pooroom.domain.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 장바구니 저장소의 상품 한 줄 (상품 ID 당 하나)
+ */
+@Getter
+@AllArgsConstructor
+public class CartLine {
+
+    private final Long productId;
+    private final int quantity;
+    // 처음 담을 당시의 단가
+    private final BigDecimal unitPrice;
+    private final Instant addedAt;
+
+    public BigDecimal getTotalPrice() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+}
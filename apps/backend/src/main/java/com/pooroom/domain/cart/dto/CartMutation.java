@@ -0,0 +1,17 @@
+package com.pooroom.domain.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장바구니 저장소 변경 결과
+ * version 은 장바구니마다 변경 시 1씩 증가하는 값으로, 캐시된 응답이 어느 변경까지 반영했는지 비교하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class CartMutation {
+
+    // 변경 후 수량 또는 제거된 상품 수
+    private final int count;
+    private final long version;
+}
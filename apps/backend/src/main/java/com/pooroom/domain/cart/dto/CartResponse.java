@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +26,8 @@ public class CartResponse {
     private BigDecimal totalPrice;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 응답을 구성한 시점의 장바구니 저장소 버전 (CartStore)
+    private long version;
 
     public static CartResponse from(Cart cart) {
         List<CartItemResponse> items = cart.getCartItems().stream()
@@ -44,4 +48,94 @@ public class CartResponse {
                 .updatedAt(cart.getUpdatedAt())
                 .build();
     }
+
+    public static CartResponse of(Long userId, List<CartItemResponse> items, long version) {
+        return CartResponse.builder()
+                .userId(userId)
+                .version(version)
+                .items(items)
+                .totalItemCount(items.stream().mapToInt(CartItemResponse::getQuantity).sum())
+                .totalPrice(items.stream()
+                        .map(CartItemResponse::getTotalPrice)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+    }
+
+    /**
+     * 상품 수량을 지정한 값으로 바꾼 사본 (해당 상품이 없으면 null)
+     */
+    public CartResponse withQuantity(Long productId, int quantity) {
+        CartItemResponse current = findItem(productId);
+        if (current == null) {
+            return null;
+        }
+        return replaceItem(current, current.withQuantity(quantity));
+    }
+
+    /**
+     * 새 상품을 맨 뒤에 추가한 사본 (이미 있으면 null)
+     */
+    public CartResponse withItem(CartItemResponse item) {
+        if (findItem(item.getId()) != null) {
+            return null;
+        }
+        List<CartItemResponse> patched = new ArrayList<>(items);
+        patched.add(item);
+        return patched(patched, totalItemCount + item.getQuantity(), totalPrice.add(item.getTotalPrice()));
+    }
+
+    /**
+     * 상품들을 뺀 사본
+     */
+    public CartResponse withoutItems(Collection<Long> productIds) {
+        List<CartItemResponse> patched = new ArrayList<>(items.size());
+        int itemCount = totalItemCount;
+        BigDecimal price = totalPrice;
+        for (CartItemResponse item : items) {
+            if (productIds.contains(item.getId())) {
+                itemCount -= item.getQuantity();
+                price = price.subtract(item.getTotalPrice());
+            } else {
+                patched.add(item);
+            }
+        }
+        return patched(patched, itemCount, price);
+    }
+
+    /**
+     * 버전만 바꾼 사본
+     */
+    public CartResponse atVersion(long newVersion) {
+        CartResponse copy = patched(items, totalItemCount, totalPrice);
+        copy.version = newVersion;
+        return copy;
+    }
+
+    private CartItemResponse findItem(Long productId) {
+        return items.stream()
+                .filter(item -> item.getId().equals(productId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private CartResponse replaceItem(CartItemResponse current, CartItemResponse replacement) {
+        List<CartItemResponse> patched = new ArrayList<>(items);
+        patched.set(patched.indexOf(current), replacement);
+        return patched(patched,
+                totalItemCount - current.getQuantity() + replacement.getQuantity(),
+                totalPrice.subtract(current.getTotalPrice()).add(replacement.getTotalPrice()));
+    }
+
+    private CartResponse patched(List<CartItemResponse> patchedItems, int itemCount, BigDecimal price) {
+        return CartResponse.builder()
+                .id(id)
+                .userId(userId)
+                .items(patchedItems)
+                .totalItemCount(itemCount)
+                .totalPrice(price)
+                .createdAt(createdAt)
+                .updatedAt(LocalDateTime.now())
+                .version(version)
+                .build();
+    }
 }
\ No newline at end of file
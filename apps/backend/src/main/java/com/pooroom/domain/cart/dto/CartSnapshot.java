@@ -0,0 +1,17 @@
+package com.pooroom.domain.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 한 시점의 장바구니 상품 목록과 그 시점의 버전 (같은 HGETALL 로 읽음)
+ */
+@Getter
+@AllArgsConstructor
+public class CartSnapshot {
+
+    private final long version;
+    private final List<CartLine> lines;
+}
@@ -0,0 +1,32 @@
+package com.pooroom.domain.cart.event;
+
+import com.pooroom.common.outbox.service.OutboxEventHandler;
+import com.pooroom.domain.cart.service.CartService;
+import com.pooroom.domain.order.event.OrderCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 후 장바구니에서 주문한 상품 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCreatedCartHandler implements OutboxEventHandler<OrderCreatedEvent> {
+
+    private final CartService cartService;
+
+    @Override
+    public String eventType() {
+        return OrderCreatedEvent.TYPE;
+    }
+
+    @Override
+    public Class<OrderCreatedEvent> payloadType() {
+        return OrderCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderCreatedEvent event) {
+        cartService.removeOrderedItems(event.getUserId(), event.getQuantities().keySet());
+    }
+}
@@ -0,0 +1,32 @@
+package com.pooroom.domain.cart.event;
+
+import com.pooroom.common.outbox.service.OutboxEventHandler;
+import com.pooroom.domain.cart.service.CartRepricingService;
+import com.pooroom.domain.product.event.ProductPriceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 가격 변경 후 해당 상품을 담은 장바구니 단가 교체
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductPriceChangedCartHandler implements OutboxEventHandler<ProductPriceChangedEvent> {
+
+    private final CartRepricingService cartRepricingService;
+
+    @Override
+    public String eventType() {
+        return ProductPriceChangedEvent.TYPE;
+    }
+
+    @Override
+    public Class<ProductPriceChangedEvent> payloadType() {
+        return ProductPriceChangedEvent.class;
+    }
+
+    @Override
+    public void handle(ProductPriceChangedEvent event) {
+        cartRepricingService.reprice(event.getProductId());
+    }
+}
@@ -0,0 +1,134 @@
+package com.pooroom.domain.cart.repository;
+
+import com.pooroom.domain.cart.dto.CartLine;
+import com.pooroom.domain.cart.dto.CartSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니 MySQL 사본 일괄 반영 (JDBC batch)
+ * CartStore 의 write-behind, Redis 유실 시 복구, 가격 변경 시 단가 교체에서 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartBatchRepository {
+
+    private static final String FIND_LINES_SQL =
+            "SELECT ci.product_id, ci.quantity, ci.unit_price, ci.created_at " +
+            "FROM cart_items ci JOIN carts c ON c.id = ci.cart_id WHERE c.user_id = ? ORDER BY ci.id";
+
+    // 탈퇴 등으로 사용자가 없으면 FK 오류 대신 건너뜀
+    private static final String INSERT_CART_SQL =
+            "INSERT IGNORE INTO carts (user_id, created_at, updated_at) VALUES (?, ?, ?)";
+
+    private static final String FIND_CART_IDS_SQL =
+            "SELECT id, user_id FROM carts WHERE user_id IN (:userIds)";
+
+    // 저장된 버전보다 새 스냅샷일 때만 반영 권한을 얻음 (행 잠금으로 같은 사용자의 동시 반영은 커밋 순서대로 직렬화)
+    private static final String CLAIM_CART_SQL =
+            "UPDATE carts SET store_version = ?, updated_at = ? WHERE user_id = ? AND store_version < ?";
+
+    private static final String DELETE_ITEMS_SQL =
+            "DELETE FROM cart_items WHERE cart_id = ?";
+
+    // 삭제된 상품은 FK 오류 대신 건너뜀
+    private static final String INSERT_ITEM_SQL =
+            "INSERT IGNORE INTO cart_items (cart_id, product_id, quantity, unit_price, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    // product_id 인덱스(idx_product_id)로 해당 상품 행만 나눠서 갱신
+    private static final String REPRICE_ITEMS_SQL =
+            "UPDATE cart_items SET unit_price = ?, updated_at = ? WHERE product_id = ? AND unit_price <> ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<CartLine> findLines(Long userId) {
+        return jdbcTemplate.query(FIND_LINES_SQL, (rs, rowNum) -> new CartLine(
+                rs.getLong("product_id"),
+                rs.getInt("quantity"),
+                rs.getBigDecimal("unit_price"),
+                rs.getTimestamp("created_at").toInstant()
+        ), userId);
+    }
+
+    /**
+     * 사용자별 장바구니 전체를 스냅샷 상태로 교체 (장바구니가 없으면 생성)
+     * 몇 건만 바뀌어도 행 단위 비교 없이 삭제 후 batch INSERT 로 반영 (statement 수는 사용자 수와 무관)
+     * 저장된 버전(carts.store_version)이 같거나 더 새로우면 건너뜀 - 여러 노드가 같은 사용자를 반영해도 이전 스냅샷이 덮어쓰지 않음
+     * @return 실제로 반영한 사용자 수
+     */
+    public int replaceAll(Map<Long, CartSnapshot> snapshots, LocalDateTime now) {
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        List<Long> userIds = new ArrayList<>(snapshots.keySet());
+        List<Object[]> cartArgs = new ArrayList<>(userIds.size());
+        List<Object[]> claimArgs = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            long version = snapshots.get(userId).getVersion();
+            cartArgs.add(new Object[]{userId, timestamp, timestamp});
+            claimArgs.add(new Object[]{version, timestamp, userId, version});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CART_SQL, cartArgs);
+
+        int[] claimed = jdbcTemplate.batchUpdate(CLAIM_CART_SQL, claimArgs);
+        List<Long> claimedUserIds = new ArrayList<>(userIds.size());
+        for (int i = 0; i < claimed.length; i++) {
+            if (claimed[i] != 0) {
+                claimedUserIds.add(userIds.get(i));
+            }
+        }
+        if (claimedUserIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> cartIds = findCartIds(claimedUserIds);
+
+        List<Object[]> deleteArgs = new ArrayList<>(cartIds.size());
+        List<Object[]> itemArgs = new ArrayList<>();
+        cartIds.forEach((userId, cartId) -> {
+            deleteArgs.add(new Object[]{cartId});
+            for (CartLine line : snapshots.get(userId).getLines()) {
+                itemArgs.add(new Object[]{cartId, line.getProductId(), line.getQuantity(), line.getUnitPrice(),
+                        Timestamp.from(line.getAddedAt()), timestamp});
+            }
+        });
+        jdbcTemplate.batchUpdate(DELETE_ITEMS_SQL, deleteArgs);
+        if (!itemArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, itemArgs);
+        }
+        return cartIds.size();
+    }
+
+    /**
+     * 상품을 담은 장바구니 행의 단가를 최대 limit 건 교체 (긴 잠금을 피하려고 호출 측에서 나눠 반복)
+     */
+    public int repriceItems(Long productId, BigDecimal unitPrice, LocalDateTime now, int limit) {
+        return jdbcTemplate.update(REPRICE_ITEMS_SQL, unitPrice, Timestamp.valueOf(now), productId, unitPrice, limit);
+    }
+
+    private Map<Long, Long> findCartIds(Collection<Long> userIds) {
+        Map<Long, Long> cartIds = new HashMap<>();
+        namedParameterJdbcTemplate.query(FIND_CART_IDS_SQL,
+                new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                    cartIds.put(rs.getLong("user_id"), rs.getLong("id"));
+                });
+        return cartIds;
+    }
+}
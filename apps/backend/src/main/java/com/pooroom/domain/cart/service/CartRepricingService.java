@@ -0,0 +1,65 @@
+package com.pooroom.domain.cart.service;
+
+import com.pooroom.common.exception.BusinessException;
+import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.domain.cart.repository.CartBatchRepository;
+import com.pooroom.domain.product.dto.ProductSnapshot;
+import com.pooroom.domain.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 가격 변경 시 장바구니 단가 일괄 교체
+ * 상품 역색인(cart:product:{id}:users)으로 해당 상품을 담은 장바구니만 batch 단위로 교체하고 그 장바구니의 응답 캐시만 무효화,
+ * Redis 에 없는 장바구니도 복구 시 새 단가를 쓰도록 MySQL 사본은 product_id 인덱스로 나눠서 갱신
+ */
+@Slf4j
+@Service
+public class CartRepricingService {
+
+    private final CartStore cartStore;
+    private final CartBatchRepository cartBatchRepository;
+    private final CartService cartService;
+    private final ProductRepository productRepository;
+    private final int batchSize;
+
+    public CartRepricingService(CartStore cartStore,
+                                CartBatchRepository cartBatchRepository,
+                                CartService cartService,
+                                ProductRepository productRepository,
+                                @Value("${cart.repricing.batch-size:500}") int batchSize) {
+        this.cartStore = cartStore;
+        this.cartBatchRepository = cartBatchRepository;
+        this.cartService = cartService;
+        this.productRepository = productRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 현재 가격으로 교체 (이벤트가 늦게 또는 순서가 바뀌어 도착해도 항상 최신 가격으로 수렴, 다시 실행해도 결과 동일)
+     */
+    public void reprice(Long productId) {
+        // 이벤트는 한 번만 처리되므로 캐시를 거치지 않고 DB 에서 읽음
+        // (무효화가 아직 도착하지 않은 near cache 나 이전 값을 다시 채운 로더 때문에 이전 가격으로 굳지 않도록)
+        ProductSnapshot product = productRepository.findSnapshotById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+        BigDecimal unitPrice = product.getEffectivePrice();
+
+        // Redis 먼저 교체 - 그 사이 DB 반영 주기가 이전 단가를 써도 교체된 장바구니는 다시 반영 대기열에 들어감
+        int carts = cartStore.reprice(productId, unitPrice, batchSize, cartService::evictCachedCarts);
+
+        LocalDateTime now = LocalDateTime.now();
+        int rows = 0;
+        int updated;
+        do {
+            updated = cartBatchRepository.repriceItems(productId, unitPrice, now, batchSize);
+            rows += updated;
+        } while (updated == batchSize);
+
+        log.info("장바구니 단가 교체: productId={}, unitPrice={}, carts={}, rows={}", productId, unitPrice, carts, rows);
+    }
+}
@@ -4,200 +4,181 @@ import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
 import com.pooroom.common.service.CacheService;
 import com.pooroom.domain.cart.dto.AddToCartRequest;
+import com.pooroom.domain.cart.dto.CartItemResponse;
+import com.pooroom.domain.cart.dto.CartLine;
+import com.pooroom.domain.cart.dto.CartMutation;
 import com.pooroom.domain.cart.dto.CartResponse;
+import com.pooroom.domain.cart.dto.CartSnapshot;
 import com.pooroom.domain.cart.dto.UpdateCartItemRequest;
-import com.pooroom.domain.cart.entity.Cart;
-import com.pooroom.domain.cart.entity.CartItem;
-import com.pooroom.domain.cart.repository.CartItemRepository;
-import com.pooroom.domain.cart.repository.CartRepository;
+import com.pooroom.domain.product.dto.ProductSnapshot;
 import com.pooroom.domain.product.entity.Product;
 import com.pooroom.domain.product.entity.ProductStatus;
 import com.pooroom.domain.product.service.ProductService;
-import com.pooroom.domain.user.entity.User;
-import com.pooroom.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.util.Optional;
-
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 서비스
+ * 장바구니 원본은 CartStore(Redis hash)이고, 변경은 저장소 스크립트 한 번으로 끝나며 DB 반영은 CartStore 가 모아서 처리
+ * 상품 한 줄은 상품 ID 로 식별 (응답의 item id = 상품 ID)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CartService {
 
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
     private final ProductService productService;
-    private final UserService userService;
     private final CacheService cacheService;
 
     private static final Duration CART_CACHE_DURATION = Duration.ofMinutes(15);
 
+    /**
+     * 캐시된 응답의 버전이 저장소 버전과 다르면 (변경과 경합한 재구성이 늦게 저장된 경우 등) 다시 구성
+     */
     public CartResponse getCartByUserId(Long userId) {
-        String cacheKey = "cart:user:" + userId;
-        
-        Object cachedCart = cacheService.get(cacheKey);
-        if (cachedCart instanceof CartResponse) {
-            log.debug("장바구니 캐시에서 조회: userId={}", userId);
-            return (CartResponse) cachedCart;
-        }
-
-        Cart cart = cartRepository.findByUserIdWithItems(userId)
-                .orElse(null);
-
-        CartResponse response;
-        if (cart == null) {
-            response = CartResponse.builder()
-                    .userId(userId)
-                    .items(java.util.Collections.emptyList())
-                    .totalItemCount(0)
-                    .totalPrice(java.math.BigDecimal.ZERO)
-                    .build();
-        } else {
-            response = CartResponse.from(cart);
+        CartResponse cached = getCachedCart(userId);
+        Long version = cartStore.getVersion(userId);
+        if (version != null && cached.getVersion() == version) {
+            return cached;
         }
-
-        cacheService.put(cacheKey, response, CART_CACHE_DURATION);
-        log.debug("장바구니 DB에서 조회 후 캐시 저장: userId={}", userId);
-
-        return response;
+        invalidateCartCache(userId);
+        return getCachedCart(userId);
     }
 
-    @Transactional
     public CartResponse addToCart(Long userId, AddToCartRequest request) {
-        User user = userService.findById(userId);
-        Product product = productService.findById(request.getProductId());
+        ProductSnapshot product = productService.findSnapshot(request.getProductId());
 
         validateProduct(product);
         validateStock(product, request.getQuantity());
 
-        Cart cart = getOrCreateCart(user);
-        
-        Optional<CartItem> existingItem = cartItemRepository
-                .findByCartIdAndProductId(cart.getId(), product.getId());
-
-        if (existingItem.isPresent()) {
-            CartItem item = existingItem.get();
-            int newQuantity = item.getQuantity() + request.getQuantity();
-            validateStock(product, newQuantity);
-            item.updateQuantity(newQuantity);
-            cartItemRepository.save(item);
-        } else {
-            CartItem newItem = CartItem.builder()
-                    .cart(cart)
-                    .product(product)
-                    .quantity(request.getQuantity())
-                    .unitPrice(product.getEffectivePrice())
-                    .build();
-            cartItemRepository.save(newItem);
-            cart.addItem(newItem);
-        }
-
-        cartRepository.save(cart);
-        invalidateCartCache(userId);
+        // 기존 수량과 합친 수량의 재고 검사도 저장소 스크립트 안에서 원자적으로 처리
+        CartMutation mutation = cartStore.add(userId, product.getId(), request.getQuantity(),
+                product.getEffectivePrice(), product.getStockQuantity());
+        int quantity = mutation.getCount();
 
         log.info("장바구니에 상품 추가: userId={}, productId={}, quantity={}", 
                 userId, request.getProductId(), request.getQuantity());
 
-        return getCartByUserId(userId);
+        // 새로 담은 상품이면 상품 요약은 캐시된 상품 응답으로 구성
+        CartItemResponse newItem = quantity == request.getQuantity()
+                ? CartItemResponse.of(
+                        new CartLine(product.getId(), quantity, product.getEffectivePrice(), Instant.now()),
+                        CartItemResponse.ProductSummary.from(productService.findByIdAsDto(product.getId())))
+                : null;
+        // 저장소가 돌려준 합계 수량으로 덮어씀
+        return patchCart(userId, mutation.getVersion(), cart -> {
+            CartResponse patched = cart.withQuantity(product.getId(), quantity);
+            return patched == null && newItem != null ? cart.withItem(newItem) : patched;
+        });
     }
 
-    @Transactional
-    public CartResponse updateCartItem(Long userId, Long cartItemId, UpdateCartItemRequest request) {
-        Cart cart = cartRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-
-        if (!cartItem.getCart().getId().equals(cart.getId())) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
-        }
-
-        validateStock(cartItem.getProduct(), request.getQuantity());
-        cartItem.updateQuantity(request.getQuantity());
-        cartItemRepository.save(cartItem);
+    public CartResponse updateCartItem(Long userId, Long productId, UpdateCartItemRequest request) {
+        ProductSnapshot product = productService.findSnapshot(productId);
+        validateStock(product, request.getQuantity());
 
-        invalidateCartCache(userId);
+        CartMutation mutation = cartStore.updateQuantity(userId, productId, request.getQuantity(),
+                product.getStockQuantity());
 
-        log.info("장바구니 상품 수량 변경: userId={}, cartItemId={}, quantity={}", 
-                userId, cartItemId, request.getQuantity());
+        log.info("장바구니 상품 수량 변경: userId={}, productId={}, quantity={}", 
+                userId, productId, request.getQuantity());
 
-        return getCartByUserId(userId);
+        return patchCart(userId, mutation.getVersion(), cart -> cart.withQuantity(productId, mutation.getCount()));
     }
 
-    @Transactional
-    public CartResponse removeFromCart(Long userId, Long cartItemId) {
-        Cart cart = cartRepository.findByUserId(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-
-        if (!cartItem.getCart().getId().equals(cart.getId())) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+    public CartResponse removeFromCart(Long userId, Long productId) {
+        CartMutation mutation = cartStore.remove(userId, List.of(productId));
+        if (mutation.getCount() == 0) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
         }
 
-        cart.removeItem(cartItem);
-        cartItemRepository.delete(cartItem);
-
-        invalidateCartCache(userId);
-
-        log.info("장바구니에서 상품 제거: userId={}, cartItemId={}", userId, cartItemId);
+        log.info("장바구니에서 상품 제거: userId={}, productId={}", userId, productId);
 
-        return getCartByUserId(userId);
+        return patchCart(userId, mutation.getVersion(), cart -> cart.withoutItems(List.of(productId)));
     }
 
-    @Transactional
     public void clearCart(Long userId) {
-        Cart cart = cartRepository.findByUserId(userId)
-                .orElse(null);
+        CartMutation mutation = cartStore.clear(userId);
+        tryPatchCart(userId, mutation.getVersion(), cart -> CartResponse.of(userId, List.of(), 0));
 
-        if (cart != null) {
-            cartItemRepository.deleteAllByCartId(cart.getId());
-            cart.clearAllItems();
-            cartRepository.save(cart);
-            invalidateCartCache(userId);
+        log.info("장바구니 전체 삭제: userId={}", userId);
+    }
 
-            log.info("장바구니 전체 삭제: userId={}", userId);
+    /**
+     * 주문한 상품만 장바구니에서 제거 (주문 이후 새로 담은 상품은 유지, 다시 실행해도 결과 동일)
+     */
+    public void removeOrderedItems(Long userId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        CartMutation mutation = cartStore.remove(userId, productIds);
+        if (mutation.getCount() > 0) {
+            tryPatchCart(userId, mutation.getVersion(), cart -> cart.withoutItems(productIds));
         }
+        log.info("주문 상품 장바구니 제거: userId={}, removed={}", userId, mutation.getCount());
+    }
+
+    /**
+     * 여러 사용자의 장바구니 응답 캐시 무효화 (가격 변경 등 외부 변경 반영용)
+     */
+    public void evictCachedCarts(Collection<Long> userIds) {
+        userIds.forEach(this::invalidateCartCache);
     }
 
     public int getCartItemCount(Long userId) {
-        String cacheKey = "cart:count:" + userId;
-        
-        Object cachedCount = cacheService.get(cacheKey);
-        if (cachedCount instanceof Integer) {
-            return (Integer) cachedCount;
-        }
+        return cartStore.countLines(userId);
+    }
 
-        int count = cartRepository.countItemsByUserId(userId);
-        cacheService.put(cacheKey, count, Duration.ofMinutes(10));
-        
-        return count;
+    /**
+     * 주문 생성용 장바구니 상품 목록 (담은 순서)
+     */
+    public List<CartLine> getCartLines(Long userId) {
+        return cartStore.getLines(userId);
     }
 
-    private Cart getOrCreateCart(User user) {
-        return cartRepository.findByUserId(user.getId())
-                .orElseGet(() -> {
-                    Cart newCart = Cart.builder()
-                            .user(user)
-                            .build();
-                    return cartRepository.save(newCart);
-                });
+    private CartResponse getCachedCart(Long userId) {
+        return cacheService.getOrLoad(cartCacheKey(userId), CartResponse.class, CART_CACHE_DURATION,
+                () -> loadCart(userId), cartCacheTag(userId));
     }
 
-    private void validateProduct(Product product) {
+    private CartResponse loadCart(Long userId) {
+        CartSnapshot snapshot = cartStore.getSnapshot(userId);
+        List<CartLine> lines = snapshot.getLines();
+        if (lines.isEmpty()) {
+            return CartResponse.of(userId, List.of(), snapshot.getVersion());
+        }
+
+        // 상품 정보는 IN 조회 한 번으로 로딩, 삭제된 상품은 응답에서 제외
+        Map<Long, Product> products = productService.findAllByIdsInOrder(
+                        lines.stream().map(CartLine::getProductId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<CartItemResponse> items = lines.stream()
+                .filter(line -> products.containsKey(line.getProductId()))
+                .map(line -> CartItemResponse.of(line,
+                        CartItemResponse.ProductSummary.from(products.get(line.getProductId()))))
+                .collect(Collectors.toList());
+        return CartResponse.of(userId, items, snapshot.getVersion());
+    }
+
+    private void validateProduct(ProductSnapshot product) {
         if (product.getStatus() != ProductStatus.ACTIVE) {
             throw new BusinessException(ErrorCode.PRODUCT_NOT_AVAILABLE);
         }
     }
 
-    private void validateStock(Product product, Integer requestedQuantity) {
+    private void validateStock(ProductSnapshot product, Integer requestedQuantity) {
         if (!product.isInStock()) {
             throw new BusinessException(ErrorCode.PRODUCT_OUT_OF_STOCK);
         }
@@ -206,13 +187,42 @@ public class CartService {
         }
     }
 
-    public Cart getCartEntityByUserId(Long userId) {
-        return cartRepository.findByUserIdWithItems(userId)
-                .orElse(null);
+    /**
+     * 캐시된 장바구니 응답에 변경분만 반영해 compare-and-set 으로 저장 (저장소/상품 재조회 없음)
+     * 실패하면 무효화 후 저장소에서 다시 구성
+     */
+    private CartResponse patchCart(Long userId, long version, UnaryOperator<CartResponse> patch) {
+        CartResponse patched = tryPatchCart(userId, version, patch);
+        return patched != null ? patched : getCartByUserId(userId);
+    }
+
+    /**
+     * 캐시된 응답이 바로 이전 버전일 때만 변경분 반영 (캐시 버전 = 반영된 저장소 변경까지의 버전)
+     * 캐시에 없거나, 다른 변경이 먼저/나중에 반영되어 버전이 이어지지 않거나, 응답과 맞지 않으면 무효화하고 null
+     */
+    private CartResponse tryPatchCart(Long userId, long version, UnaryOperator<CartResponse> patch) {
+        CartResponse patched = cacheService.update(cartCacheKey(userId), CartResponse.class, cart -> {
+            if (cart.getVersion() != version - 1) {
+                return null;
+            }
+            CartResponse next = patch.apply(cart);
+            return next != null ? next.atVersion(version) : null;
+        });
+        if (patched == null) {
+            invalidateCartCache(userId);
+        }
+        return patched;
     }
 
     private void invalidateCartCache(Long userId) {
-        cacheService.delete("cart:user:" + userId);
-        cacheService.delete("cart:count:" + userId);
+        cacheService.invalidateTag(cartCacheTag(userId));
+    }
+
+    private String cartCacheKey(Long userId) {
+        return "cart:user:" + userId;
+    }
+
+    private String cartCacheTag(Long userId) {
+        return "user:" + userId + ":cart";
     }
 }
\ No newline at end of file
@@ -0,0 +1,455 @@
+package com.pooroom.domain.cart.service;
+
+import com.pooroom.common.exception.BusinessException;
+import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.domain.cart.dto.CartLine;
+import com.pooroom.domain.cart.dto.CartMutation;
+import com.pooroom.domain.cart.dto.CartSnapshot;
+import com.pooroom.domain.cart.repository.CartBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 장바구니 저장소
+ * 사용자별 Redis hash 하나를 원본으로 사용해 담기/수량 변경/삭제를 Lua 스크립트 한 번(HINCRBY/HSET)으로 처리하고,
+ * 변경된 사용자는 cart:dirty 에 모았다가 주기적으로 carts/cart_items 에 batch 반영 (write-behind)
+ * MySQL 사본은 Redis 유실 시 복구와 분석용으로만 읽음
+ *
+ * cart:items:{userId} = hash(q:{productId} -> 수량, p:{productId} -> 단가, t:{productId} -> 담은 시각 ms, _ -> 버전)
+ *   버전은 적재 시각(ms)에서 시작해 변경 스크립트마다 1씩 증가 (키가 만료된 뒤 다시 적재해도 이전 버전보다 커짐)
+ * cart:dirty = DB 반영 대기 사용자 ID 집합
+ * cart:product:{productId}:users = 상품을 담은 사용자 ID 집합 (가격 변경 시 영향받는 장바구니만 찾는 역색인)
+ *   상품별 키는 스크립트 안에서 만들므로 단일 Redis(비클러스터) 기준
+ *   만료 없이 유지 (TTL 을 두면 다른 변경으로 TTL 이 연장된 장바구니보다 먼저 사라져 재가격에서 빠짐),
+ *   장바구니 키가 만료돼 남은 항목은 재가격 처리 때 정리
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private static final String CART_PREFIX = "cart:items:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String PRODUCT_USERS_PREFIX = "cart:product:";
+    private static final String PRODUCT_USERS_SUFFIX = ":users";
+
+    private static final String QUANTITY_PREFIX = "q:";
+    private static final String PRICE_PREFIX = "p:";
+    private static final String ADDED_AT_PREFIX = "t:";
+    // 장바구니 버전, 빈 장바구니도 키가 남도록 항상 유지 (키가 없으면 DB 에서 복구)
+    private static final String VERSION_FIELD = "_";
+    private static final int FIELDS_PER_LINE = 3;
+
+    private static final long NOT_LOADED = -1;
+    private static final long LIMIT_EXCEEDED = -2;
+    private static final long LINE_NOT_FOUND = -3;
+
+    // 변경 스크립트는 {결과, 버전} 을 반환 (실패 코드면 버전 0)
+    // KEYS[1]=장바구니, KEYS[2]=dirty / ARGV=상품 ID, 추가 수량, 단가, 최대 수량, 현재 ms, TTL ms, 사용자 ID
+    private static final String ADD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end " +
+            "local field = 'q:' .. ARGV[1] " +
+            "local quantity = tonumber(redis.call('HGET', KEYS[1], field) or '0') + tonumber(ARGV[2]) " +
+            "if quantity > tonumber(ARGV[4]) then return {-2, 0} end " +
+            "redis.call('HINCRBY', KEYS[1], field, ARGV[2]) " +
+            "local users = 'cart:product:' .. ARGV[1] .. ':users' " +
+            "redis.call('SADD', users, ARGV[7]) " +
+            "redis.call('PERSIST', users) " +
+            "redis.call('HSETNX', KEYS[1], 'p:' .. ARGV[1], ARGV[3]) " +
+            "redis.call('HSETNX', KEYS[1], 't:' .. ARGV[1], ARGV[5]) " +
+            "local version = redis.call('HINCRBY', KEYS[1], '_', 1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[6]) " +
+            "redis.call('SADD', KEYS[2], ARGV[7]) " +
+            "return {quantity, version}";
+
+    // ARGV=상품 ID, 수량, 최대 수량, TTL ms, 사용자 ID
+    private static final String SET_QUANTITY_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end " +
+            "local field = 'q:' .. ARGV[1] " +
+            "if redis.call('HEXISTS', KEYS[1], field) == 0 then return {-3, 0} end " +
+            "if tonumber(ARGV[2]) > tonumber(ARGV[3]) then return {-2, 0} end " +
+            "redis.call('HSET', KEYS[1], field, ARGV[2]) " +
+            "local version = redis.call('HINCRBY', KEYS[1], '_', 1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('SADD', KEYS[2], ARGV[5]) " +
+            "return {tonumber(ARGV[2]), version}";
+
+    // ARGV=TTL ms, 사용자 ID, 상품 ID...
+    private static final String REMOVE_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end " +
+            "local removed = 0 " +
+            "for i = 3, #ARGV do " +
+            "  if redis.call('HDEL', KEYS[1], 'q:' .. ARGV[i]) == 1 then " +
+            "    removed = removed + 1 " +
+            "    redis.call('SREM', 'cart:product:' .. ARGV[i] .. ':users', ARGV[2]) " +
+            "  end " +
+            "  redis.call('HDEL', KEYS[1], 'p:' .. ARGV[i], 't:' .. ARGV[i]) " +
+            "end " +
+            "if removed == 0 then return {0, tonumber(redis.call('HGET', KEYS[1], '_'))} end " +
+            "local version = redis.call('HINCRBY', KEYS[1], '_', 1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "return {removed, version}";
+
+    // 키가 없었으면 현재 ms 부터 버전 시작 / ARGV=TTL ms, 사용자 ID, 현재 ms
+    private static final String CLEAR_SCRIPT =
+            "local version = tonumber(redis.call('HGET', KEYS[1], '_') or ARGV[3]) + 1 " +
+            "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do " +
+            "  if string.sub(field, 1, 2) == 'q:' then " +
+            "    redis.call('SREM', 'cart:product:' .. string.sub(field, 3) .. ':users', ARGV[2]) " +
+            "  end " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], '_', version) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "return {1, version}";
+
+    // 다른 요청이 먼저 적재했으면 덮어쓰지 않음 / ARGV=TTL ms, 사용자 ID, 필드, 값, ...
+    private static final String LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "for i = 3, #ARGV, 2 do " +
+            "  if string.sub(ARGV[i], 1, 2) == 'q:' then " +
+            "    local users = 'cart:product:' .. string.sub(ARGV[i], 3) .. ':users' " +
+            "    redis.call('SADD', users, ARGV[2]) " +
+            "    redis.call('PERSIST', users) " +
+            "  end " +
+            "end " +
+            "return 1";
+
+    // 담겨 있는 상품의 단가만 교체 (이미 같은 단가면 변경 없음), 장바구니가 없거나 상품이 빠졌으면 역색인에서 제거
+    // KEYS[1]=장바구니, KEYS[2]=dirty, KEYS[3]=상품 역색인 / ARGV=상품 ID, 단가, 사용자 ID
+    private static final String REPRICE_SCRIPT =
+            "if redis.call('HEXISTS', KEYS[1], 'q:' .. ARGV[1]) == 0 then " +
+            "  redis.call('SREM', KEYS[3], ARGV[3]) " +
+            "  return 0 " +
+            "end " +
+            "if redis.call('HGET', KEYS[1], 'p:' .. ARGV[1]) == ARGV[2] then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'p:' .. ARGV[1], ARGV[2]) " +
+            "redis.call('HINCRBY', KEYS[1], '_', 1) " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "return 1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CartBatchRepository cartBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int flushBatchSize;
+
+    public CartStore(StringRedisTemplate stringRedisTemplate,
+                     CartBatchRepository cartBatchRepository,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${cart.store.ttl-days:30}") long ttlDays,
+                     @Value("${cart.store.flush-batch-size:200}") int flushBatchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cartBatchRepository = cartBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofDays(ttlDays);
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    /**
+     * 담은 순서대로 장바구니 상품 조회
+     */
+    public List<CartLine> getLines(Long userId) {
+        return getSnapshot(userId).getLines();
+    }
+
+    /**
+     * 상품 목록과 같은 시점의 버전
+     */
+    public CartSnapshot getSnapshot(Long userId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(cartKey(userId));
+        if (entries.isEmpty()) {
+            recover(userId);
+            entries = stringRedisTemplate.opsForHash().entries(cartKey(userId));
+        }
+        return new CartSnapshot(versionOf(entries.get(VERSION_FIELD)), toLines(entries));
+    }
+
+    /**
+     * 현재 버전 (장바구니 키가 없으면 null)
+     */
+    public Long getVersion(Long userId) {
+        Object version = stringRedisTemplate.opsForHash().get(cartKey(userId), VERSION_FIELD);
+        return version != null ? versionOf(version) : null;
+    }
+
+    /**
+     * 담긴 상품 종류 수 (hash 필드 수로 계산, 상품 조회 없음)
+     */
+    public int countLines(Long userId) {
+        Long size = stringRedisTemplate.opsForHash().size(cartKey(userId));
+        if (size == null || size == 0) {
+            recover(userId);
+            size = stringRedisTemplate.opsForHash().size(cartKey(userId));
+        }
+        return size == null || size == 0 ? 0 : (int) ((size - 1) / FIELDS_PER_LINE);
+    }
+
+    /**
+     * 수량을 더하고 합계 수량 반환 (처음 담는 상품은 단가/담은 시각 기록)
+     * @param maxQuantity 합계 수량 상한 (재고)
+     * @return count = 합계 수량
+     */
+    public CartMutation add(Long userId, Long productId, int quantity, BigDecimal unitPrice, int maxQuantity) {
+        CartMutation result = execute(userId, ADD_SCRIPT, productId.toString(), String.valueOf(quantity),
+                unitPrice.toPlainString(), String.valueOf(maxQuantity), String.valueOf(System.currentTimeMillis()),
+                ttlMillis(), userId.toString());
+        if (result.getCount() == LIMIT_EXCEEDED) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+        return result;
+    }
+
+    /**
+     * @return count = 변경된 수량
+     */
+    public CartMutation updateQuantity(Long userId, Long productId, int quantity, int maxQuantity) {
+        CartMutation result = execute(userId, SET_QUANTITY_SCRIPT, productId.toString(), String.valueOf(quantity),
+                String.valueOf(maxQuantity), ttlMillis(), userId.toString());
+        if (result.getCount() == LINE_NOT_FOUND) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+        }
+        if (result.getCount() == LIMIT_EXCEEDED) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+        return result;
+    }
+
+    /**
+     * @return count = 실제로 제거된 상품 수 (0 이면 버전 변화 없음)
+     */
+    public CartMutation remove(Long userId, Collection<Long> productIds) {
+        List<String> args = new ArrayList<>(productIds.size() + 2);
+        args.add(ttlMillis());
+        args.add(userId.toString());
+        productIds.forEach(productId -> args.add(productId.toString()));
+        return execute(userId, REMOVE_SCRIPT, args.toArray(new String[0]));
+    }
+
+    public CartMutation clear(Long userId) {
+        return evalMutation(CLEAR_SCRIPT, List.of(cartKey(userId), DIRTY_KEY),
+                ttlMillis(), userId.toString(), String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 상품을 담은 장바구니만 역색인으로 찾아 단가를 교체 (전체 장바구니를 훑지 않음)
+     * 역색인을 batchSize 단위로 SSCAN 하고, 묶음마다 스크립트를 pipeline 으로 한 번에 실행
+     * @param onRepriced 묶음마다 실제로 단가가 바뀐 사용자 ID 목록을 받음 (응답 캐시 무효화용)
+     * @return 단가가 바뀐 장바구니 수
+     */
+    public int reprice(Long productId, BigDecimal unitPrice, int batchSize, Consumer<List<Long>> onRepriced) {
+        String usersKey = PRODUCT_USERS_PREFIX + productId + PRODUCT_USERS_SUFFIX;
+        int repriced = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet()
+                .scan(usersKey, ScanOptions.scanOptions().count(batchSize).build())) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == batchSize) {
+                    repriced += reprice(usersKey, productId, unitPrice, batch, onRepriced);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            repriced += reprice(usersKey, productId, unitPrice, batch, onRepriced);
+        }
+        return repriced;
+    }
+
+    /**
+     * 변경된 장바구니를 사용자 단위로 꺼내 한 트랜잭션에서 batch 반영, 실패하면 다시 대기열에 넣어 다음 주기에 재시도
+     * 꺼낸 뒤 들어온 변경은 스크립트가 다시 대기열에 넣어 다음 주기에 반영됨
+     * 여러 노드가 같은 사용자를 반영해 커밋 순서가 바뀌어도 스냅샷 버전을 비교해 이전 스냅샷은 건너뜀 (CartBatchRepository.replaceAll)
+     */
+    @Scheduled(fixedDelayString = "${cart.store.flush-interval-ms:1000}")
+    public void flush() {
+        List<String> userIds;
+        do {
+            userIds = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, flushBatchSize);
+            if (userIds == null || userIds.isEmpty()) {
+                return;
+            }
+            if (!flush(userIds)) {
+                return;
+            }
+        } while (userIds.size() == flushBatchSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean flush(List<String> userIds) {
+        try {
+            List<Object> snapshots = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                userIds.forEach(userId -> commands.hGetAll(CART_PREFIX + userId));
+                return null;
+            });
+
+            Map<Long, CartSnapshot> snapshotsByUser = new LinkedHashMap<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<Object, Object> entries = (Map<Object, Object>) snapshots.get(i);
+                // 키가 만료됐으면 반영할 상태가 없으므로 DB 사본을 그대로 둠
+                if (entries != null && !entries.isEmpty()) {
+                    snapshotsByUser.put(Long.valueOf(userIds.get(i)),
+                            new CartSnapshot(versionOf(entries.get(VERSION_FIELD)), toLines(entries)));
+                }
+            }
+
+            Integer applied = transactionTemplate.execute(status ->
+                    cartBatchRepository.replaceAll(snapshotsByUser, LocalDateTime.now()));
+            log.debug("장바구니 DB 반영: users={}, applied={}", snapshotsByUser.size(), applied);
+            return true;
+        } catch (Exception e) {
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, userIds.toArray(new String[0]));
+            log.warn("장바구니 DB 반영 실패: users={}, error={}", userIds.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private int reprice(String usersKey, Long productId, BigDecimal unitPrice, List<String> userIds,
+                        Consumer<List<Long>> onRepriced) {
+        String price = unitPrice.toPlainString();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            for (String userId : userIds) {
+                commands.eval(REPRICE_SCRIPT, ReturnType.INTEGER, 3,
+                        CART_PREFIX + userId, DIRTY_KEY, usersKey, productId.toString(), price, userId);
+            }
+            return null;
+        });
+
+        List<Long> repriced = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (Long.valueOf(1).equals(results.get(i))) {
+                repriced.add(Long.valueOf(userIds.get(i)));
+            }
+        }
+        if (!repriced.isEmpty()) {
+            onRepriced.accept(repriced);
+        }
+        return repriced.size();
+    }
+
+    /**
+     * 키가 없으면 DB 에서 복구 후 한 번 더 실행
+     */
+    private CartMutation execute(Long userId, String script, String... args) {
+        List<String> keys = List.of(cartKey(userId), DIRTY_KEY);
+        CartMutation result = evalMutation(script, keys, args);
+        if (result.getCount() == NOT_LOADED) {
+            recover(userId);
+            result = evalMutation(script, keys, args);
+        }
+        return result;
+    }
+
+    private void recover(Long userId) {
+        List<CartLine> lines = cartBatchRepository.findLines(userId);
+        List<String> args = new ArrayList<>(4 + lines.size() * FIELDS_PER_LINE * 2);
+        args.add(ttlMillis());
+        args.add(userId.toString());
+        args.add(VERSION_FIELD);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        for (CartLine line : lines) {
+            args.add(QUANTITY_PREFIX + line.getProductId());
+            args.add(String.valueOf(line.getQuantity()));
+            args.add(PRICE_PREFIX + line.getProductId());
+            args.add(line.getUnitPrice().toPlainString());
+            args.add(ADDED_AT_PREFIX + line.getProductId());
+            args.add(String.valueOf(line.getAddedAt().toEpochMilli()));
+        }
+        eval(LOAD_SCRIPT, List.of(cartKey(userId)), args.toArray(new String[0]));
+        log.debug("장바구니 DB 복구: userId={}, lines={}", userId, lines.size());
+    }
+
+    private long eval(String script, List<String> keys, String... args) {
+        String[] keysAndArgs = new String[keys.size() + args.length];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i);
+        }
+        System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+        Long result = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                ((StringRedisConnection) connection).eval(script, ReturnType.INTEGER, keys.size(), keysAndArgs));
+        return result != null ? result : 0;
+    }
+
+    private CartMutation evalMutation(String script, List<String> keys, String... args) {
+        String[] keysAndArgs = new String[keys.size() + args.length];
+        for (int i = 0; i < keys.size(); i++) {
+            keysAndArgs[i] = keys.get(i);
+        }
+        System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+        List<Object> result = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection ->
+                ((StringRedisConnection) connection).eval(script, ReturnType.MULTI, keys.size(), keysAndArgs));
+        if (result == null || result.size() < 2) {
+            return new CartMutation(0, 0);
+        }
+        return new CartMutation(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+    }
+
+    private static long versionOf(Object value) {
+        return value != null ? Long.parseLong((String) value) : 0;
+    }
+
+    private static List<CartLine> toLines(Map<Object, Object> entries) {
+        List<CartLine> lines = new ArrayList<>();
+        entries.forEach((field, value) -> {
+            String name = (String) field;
+            if (!name.startsWith(QUANTITY_PREFIX)) {
+                return;
+            }
+            String productId = name.substring(QUANTITY_PREFIX.length());
+            Object price = entries.get(PRICE_PREFIX + productId);
+            Object addedAt = entries.get(ADDED_AT_PREFIX + productId);
+            if (price == null || addedAt == null) {
+                return;
+            }
+            lines.add(new CartLine(
+                    Long.valueOf(productId),
+                    Integer.parseInt((String) value),
+                    new BigDecimal((String) price),
+                    Instant.ofEpochMilli(Long.parseLong((String) addedAt))));
+        });
+        lines.sort(Comparator.comparing(CartLine::getAddedAt).thenComparing(CartLine::getProductId));
+        return lines;
+    }
+
+    private String ttlMillis() {
+        return String.valueOf(ttl.toMillis());
+    }
+
+    private static String cartKey(Long userId) {
+        return CART_PREFIX + userId;
+    }
+}
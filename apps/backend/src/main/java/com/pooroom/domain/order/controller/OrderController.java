@@ -1,6 +1,7 @@
 package com.pooroom.domain.order.controller;
 
 import com.pooroom.common.dto.ApiResponse;
+import com.pooroom.common.dto.CursorPageResponse;
 import com.pooroom.common.dto.PageResponse;
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
@@ -71,6 +72,22 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(orders));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<OrderResponse>>> getOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) OrderStatus status,
+            HttpServletRequest httpRequest) {
+        
+        Long userId = (Long) httpRequest.getAttribute("userId");
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_AUTHORIZED);
+        }
+
+        CursorPageResponse<OrderResponse> orders = orderService.getOrdersByUserIdCursor(userId, status, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(orders));
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<ApiResponse<OrderResponse>> getOrder(
             @PathVariable Long orderId,
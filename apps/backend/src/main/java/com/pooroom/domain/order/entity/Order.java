@@ -6,21 +6,49 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
+/**
+ * 주문
+ * payment/delivery 는 mappedBy 쪽 OneToOne 이라 프록시를 만들 수 없어 LAZY 여도 주문마다 추가 SELECT 가 발생하므로,
+ * 조회 용도별 entity graph 로 한 쿼리에서 함께 가져옴
+ * - Order.list: 목록 (결제/배송, 주문 상품은 페이지 단위 batch 로딩)
+ * - Order.detail: 상세 (주문 상품/상품/결제/배송)
+ * - Order.cancel: 취소 (재고 복원용 주문 상품, 결제/배송)
+ */
 @Entity
 @Table(name = "orders")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Order.GRAPH_LIST, attributeNodes = {
+                @NamedAttributeNode("payment"),
+                @NamedAttributeNode("delivery")
+        }),
+        @NamedEntityGraph(name = Order.GRAPH_DETAIL, attributeNodes = {
+                @NamedAttributeNode(value = "orderItems", subgraph = "orderItems.product"),
+                @NamedAttributeNode("payment"),
+                @NamedAttributeNode("delivery")
+        }, subgraphs = @NamedSubgraph(name = "orderItems.product", attributeNodes = @NamedAttributeNode("product"))),
+        @NamedEntityGraph(name = Order.GRAPH_CANCEL, attributeNodes = {
+                @NamedAttributeNode("orderItems"),
+                @NamedAttributeNode("payment"),
+                @NamedAttributeNode("delivery")
+        })
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Order {
 
+    public static final String GRAPH_LIST = "Order.list";
+    public static final String GRAPH_DETAIL = "Order.detail";
+    public static final String GRAPH_CANCEL = "Order.cancel";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -102,7 +130,9 @@ public class Order {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 목록에서 주문 상품 수를 계산할 때 페이지의 주문 상품을 한 번에 로딩
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -114,9 +144,6 @@ public class Order {
 
     @PrePersist
     protected void onCreate() {
-        if (orderNumber == null) {
-            orderNumber = generateOrderNumber();
-        }
         if (orderedAt == null) {
             orderedAt = LocalDateTime.now();
         }
@@ -196,10 +223,4 @@ public class Order {
         this.discountAmount = discountAmount;
         calculateTotalAmount();
     }
-
-    private String generateOrderNumber() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String uuid = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return "ORD" + timestamp.substring(timestamp.length() - 8) + uuid;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.pooroom.domain.order.event;
+
+import com.pooroom.common.outbox.service.OutboxEventHandler;
+import com.pooroom.common.service.CacheService;
+import com.pooroom.domain.order.service.OrderService;
+import com.pooroom.domain.product.dto.StockReservation;
+import com.pooroom.domain.product.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 후 캐시 정리 - 주문 목록 캐시와 재고가 바뀐 상품 캐시/검색 색인 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCreatedCacheHandler implements OutboxEventHandler<OrderCreatedEvent> {
+
+    private final CacheService cacheService;
+    private final StockReservationService stockReservationService;
+
+    @Override
+    public String eventType() {
+        return OrderCreatedEvent.TYPE;
+    }
+
+    @Override
+    public Class<OrderCreatedEvent> payloadType() {
+        return OrderCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderCreatedEvent event) {
+        cacheService.invalidateTag(OrderService.orderCacheTag(event.getUserId()));
+        stockReservationService.commit(new StockReservation(event.getQuantities()));
+    }
+}
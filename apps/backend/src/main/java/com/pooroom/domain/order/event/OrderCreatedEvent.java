@@ -0,0 +1,25 @@
+package com.pooroom.domain.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 주문 생성 이벤트 (아웃박스 payload)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCreatedEvent {
+
+    public static final String TYPE = "ORDER_CREATED";
+    public static final String AGGREGATE_TYPE = "ORDER";
+
+    private Long orderId;
+    private String orderNumber;
+    private Long userId;
+    // 상품 ID -> 주문 수량
+    private Map<Long, Integer> quantities;
+}
@@ -4,34 +4,78 @@ import com.pooroom.domain.order.entity.Order;
 import com.pooroom.domain.order.entity.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @EntityGraph(Order.GRAPH_DETAIL)
     Optional<Order> findByOrderNumber(String orderNumber);
 
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product WHERE o.id = :orderId")
+    @EntityGraph(Order.GRAPH_DETAIL)
+    @Query("SELECT o FROM Order o WHERE o.id = :orderId")
     Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
 
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.user.id = :userId ORDER BY o.createdAt DESC")
-    Page<Order> findByUserIdWithItems(@Param("userId") Long userId, Pageable pageable);
+    @EntityGraph(Order.GRAPH_CANCEL)
+    @Query("SELECT o FROM Order o WHERE o.id = :orderId")
+    Optional<Order> findByIdForCancel(@Param("orderId") Long orderId);
 
+    // 2단계 페이징 1단계: 컬렉션 fetch join 없이 주문 ID 만 LIMIT 으로 조회 (정렬은 Pageable)
+    @Query(value = "SELECT o.id FROM Order o WHERE o.user.id = :userId",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId")
+    Page<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT o.id FROM Order o WHERE o.user.id = :userId AND o.orderStatus = :status",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId AND o.orderStatus = :status")
+    Page<Long> findIdsByUserIdAndOrderStatus(@Param("userId") Long userId,
+                                             @Param("status") OrderStatus status,
+                                             Pageable pageable);
+
+    // 2단계: 한 페이지 분량의 주문만 주문 상품/상품/결제/배송과 함께 조회 (순서는 호출 측에서 ID 순서로 맞춤)
+    @EntityGraph(Order.GRAPH_DETAIL)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(Order.GRAPH_LIST)
     @Query("SELECT o FROM Order o WHERE o.user.id = :userId ORDER BY o.createdAt DESC")
     Page<Order> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    @EntityGraph(Order.GRAPH_LIST)
     @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.orderStatus = :status ORDER BY o.createdAt DESC")
     Page<Order> findByUserIdAndOrderStatus(@Param("userId") Long userId, 
                                          @Param("status") OrderStatus status, 
                                          Pageable pageable);
 
+    // 커서 페이징 (createdAt DESC, id DESC) - status 가 null 이면 전체
+    @EntityGraph(Order.GRAPH_LIST)
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND " +
+           "(:status IS NULL OR o.orderStatus = :status) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<Order> findSliceByUserId(@Param("userId") Long userId,
+                                   @Param("status") OrderStatus status,
+                                   Pageable pageable);
+
+    @EntityGraph(Order.GRAPH_LIST)
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND " +
+           "(:status IS NULL OR o.orderStatus = :status) AND " +
+           "(o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<Order> findSliceByUserIdAfter(@Param("userId") Long userId,
+                                        @Param("status") OrderStatus status,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
     @Query("SELECT o FROM Order o WHERE o.orderStatus = :status ORDER BY o.createdAt DESC")
     Page<Order> findByOrderStatus(@Param("status") OrderStatus status, Pageable pageable);
 
@@ -1,32 +1,49 @@
 package com.pooroom.domain.order.service;
 
+import com.pooroom.common.dto.CursorPageResponse;
+import com.pooroom.common.dto.KeysetCursor;
 import com.pooroom.common.dto.PageResponse;
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.common.outbox.service.OutboxPublisher;
 import com.pooroom.common.service.CacheService;
-import com.pooroom.domain.cart.entity.Cart;
-import com.pooroom.domain.cart.entity.CartItem;
+import com.pooroom.common.util.CursorCodec;
+import com.pooroom.common.util.SnowflakeIdGenerator;
+import com.pooroom.domain.cart.dto.CartLine;
 import com.pooroom.domain.cart.service.CartService;
 import com.pooroom.domain.order.dto.CreateOrderRequest;
 import com.pooroom.domain.order.dto.OrderResponse;
 import com.pooroom.domain.order.entity.*;
+import com.pooroom.domain.order.event.OrderCreatedEvent;
 import com.pooroom.domain.order.repository.OrderItemRepository;
 import com.pooroom.domain.order.repository.OrderRepository;
+import com.pooroom.domain.product.dto.ProductSnapshot;
+import com.pooroom.domain.product.dto.StockReservation;
 import com.pooroom.domain.product.entity.Product;
-import com.pooroom.domain.product.entity.ProductStatus;
 import com.pooroom.domain.product.service.ProductService;
+import com.pooroom.domain.product.service.StockReservationService;
 import com.pooroom.domain.user.entity.User;
 import com.pooroom.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -39,32 +56,42 @@ public class OrderService {
     private final UserService userService;
     private final CartService cartService;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
     private final CacheService cacheService;
+    private final OutboxPublisher outboxPublisher;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
 
     private static final Duration ORDER_CACHE_DURATION = Duration.ofMinutes(10);
     private static final BigDecimal FREE_SHIPPING_THRESHOLD = new BigDecimal("30000");
     private static final BigDecimal SHIPPING_FEE = new BigDecimal("3000");
+    private static final int MAX_PAGE_SIZE = 50;
 
     @Transactional
     public OrderResponse createOrder(Long userId, CreateOrderRequest request) {
         User user = userService.findById(userId);
         
-        Cart cart = cartService.getCartEntityByUserId(userId);
-        if (cart == null || cart.getCartItems().isEmpty()) {
+        List<CartLine> cartLines = cartService.getCartLines(userId);
+        if (cartLines.isEmpty()) {
             throw new BusinessException(ErrorCode.CART_EMPTY);
         }
 
-        validateCartItems(cart.getCartItems());
+        // 주문 상품 스냅샷에 필요한 브랜드/카테고리까지 IN 조회 한 번으로 로딩
+        Map<Long, Product> products = productService.findAllByIdsInOrder(
+                        cartLines.stream().map(CartLine::getProductId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
 
-        Order order = buildOrderFromCart(user, cart, request);
-        
-        orderRepository.save(order);
+        validateCartItems(cartLines, products);
+
+        Order order = buildOrderFromCart(user, cartLines, products, request);
 
-        reduceProductStock(order.getOrderItems());
+        // 재고를 먼저 조건부 차감해 부족하면 주문 저장 없이 실패
+        StockReservation reservation = stockReservationService.reserve(toQuantities(order.getOrderItems()));
         
-        cartService.clearCart(userId);
+        orderRepository.save(order);
 
-        invalidateOrderCache(userId);
+        // 장바구니 정리, 캐시/색인 갱신은 커밋 이후 아웃박스 핸들러에서 처리
+        outboxPublisher.publish(OrderCreatedEvent.AGGREGATE_TYPE, order.getId(), OrderCreatedEvent.TYPE,
+                new OrderCreatedEvent(order.getId(), order.getOrderNumber(), userId, reservation.getQuantities()));
 
         log.info("주문 생성 완료: userId={}, orderNumber={}, totalAmount={}", 
                 userId, order.getOrderNumber(), order.getTotalAmount());
@@ -95,7 +122,9 @@ public class OrderService {
     }
 
     public PageResponse<OrderResponse> getOrdersByUserId(Long userId, Pageable pageable) {
-        String cacheKey = "orders:user:" + userId + ":page:" + pageable.getPageNumber();
+        Pageable bounded = boundedPageable(pageable);
+        String cacheKey = "orders:user:" + userId + ":page:" + bounded.getPageNumber()
+                + ":size:" + bounded.getPageSize() + ":sort:" + bounded.getSort();
         
         Object cachedOrders = cacheService.get(cacheKey);
         if (cachedOrders instanceof PageResponse) {
@@ -103,20 +132,43 @@ public class OrderService {
             return (PageResponse<OrderResponse>) cachedOrders;
         }
 
-        Page<Order> orderPage = orderRepository.findByUserId(userId, pageable);
         PageResponse<OrderResponse> response = PageResponse.of(
-                orderPage.map(OrderResponse::fromWithoutItems)
+                fetchPageWithItems(orderRepository.findIdsByUserId(userId, bounded))
         );
 
-        cacheService.put(cacheKey, response, ORDER_CACHE_DURATION);
+        cacheService.put(cacheKey, response, ORDER_CACHE_DURATION, orderCacheTag(userId));
         log.debug("주문 목록 DB에서 조회 후 캐시 저장: userId={}", userId);
 
         return response;
     }
 
+    /**
+     * 커서 기반 주문 목록 (최신순, COUNT 쿼리 없음)
+     */
+    public CursorPageResponse<OrderResponse> getOrdersByUserIdCursor(Long userId, OrderStatus status, String cursor, int size) {
+        KeysetCursor after = CursorCodec.decode(cursor);
+        Pageable pageable = PageRequest.of(0, CursorCodec.pageSize(size));
+
+        Slice<Order> slice = after == null
+                ? orderRepository.findSliceByUserId(userId, status, pageable)
+                : orderRepository.findSliceByUserIdAfter(userId, status, after.getSortKey(), after.getId(), pageable);
+
+        List<Order> orders = slice.getContent();
+        KeysetCursor nextCursor = null;
+        if (!orders.isEmpty()) {
+            Order last = orders.get(orders.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId());
+        }
+
+        List<OrderResponse> content = orders.stream()
+                .map(OrderResponse::fromWithoutItems)
+                .collect(Collectors.toList());
+        return CursorPageResponse.of(content, pageable.getPageSize(), slice.hasNext(), nextCursor);
+    }
+
     @Transactional
     public OrderResponse cancelOrder(Long userId, Long orderId, String cancelReason) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForCancel(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
         if (!order.getUser().getId().equals(userId)) {
@@ -148,28 +200,35 @@ public class OrderService {
         return orderRepository.countByUserId(userId);
     }
 
-    private void validateCartItems(List<CartItem> cartItems) {
-        for (CartItem cartItem : cartItems) {
-            Product product = cartItem.getProduct();
+    private void validateCartItems(List<CartLine> cartLines, Map<Long, Product> products) {
+        // 함께 로딩된 상품으로 스냅샷 생성 (추가 조회 없음), 최종 재고 보장은 재고 예약에서 처리
+        for (CartLine cartLine : cartLines) {
+            Product entity = products.get(cartLine.getProductId());
+            if (entity == null) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_AVAILABLE);
+            }
+            ProductSnapshot product = ProductSnapshot.from(entity);
             
-            if (product.getStatus() != ProductStatus.ACTIVE) {
+            if (!product.isActive()) {
                 throw new BusinessException(ErrorCode.PRODUCT_NOT_AVAILABLE);
             }
             
-            if (!product.isInStock() || product.getStockQuantity() < cartItem.getQuantity()) {
+            if (!product.isInStock() || product.getStockQuantity() < cartLine.getQuantity()) {
                 throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
             }
         }
     }
 
-    private Order buildOrderFromCart(User user, Cart cart, CreateOrderRequest request) {
-        BigDecimal subtotalAmount = calculateSubtotalAmount(cart.getCartItems());
+    private Order buildOrderFromCart(User user, List<CartLine> cartLines, Map<Long, Product> products,
+                                     CreateOrderRequest request) {
+        BigDecimal subtotalAmount = calculateSubtotalAmount(cartLines, products);
         BigDecimal shippingFee = calculateShippingFee(subtotalAmount);
         BigDecimal totalAmount = subtotalAmount.add(shippingFee);
 
         CreateOrderRequest.ShippingAddressDto shippingDto = request.getShippingAddress();
         
         Order order = Order.builder()
+                .orderNumber(snowflakeIdGenerator.nextOrderNumber())
                 .user(user)
                 .paymentMethod(request.getPaymentMethod())
                 .orderMemo(request.getOrderMemo())
@@ -183,17 +242,18 @@ public class OrderService {
                 .totalAmount(totalAmount)
                 .build();
 
-        for (CartItem cartItem : cart.getCartItems()) {
-            OrderItem orderItem = OrderItem.createFromProduct(cartItem.getProduct(), cartItem.getQuantity());
+        for (CartLine cartLine : cartLines) {
+            OrderItem orderItem = OrderItem.createFromProduct(products.get(cartLine.getProductId()), cartLine.getQuantity());
             order.addOrderItem(orderItem);
         }
 
         return order;
     }
 
-    private BigDecimal calculateSubtotalAmount(List<CartItem> cartItems) {
-        return cartItems.stream()
-                .map(item -> item.getProduct().getEffectivePrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+    private BigDecimal calculateSubtotalAmount(List<CartLine> cartLines, Map<Long, Product> products) {
+        return cartLines.stream()
+                .map(line -> products.get(line.getProductId()).getEffectivePrice()
+                        .multiply(BigDecimal.valueOf(line.getQuantity())))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
@@ -202,8 +262,36 @@ public class OrderService {
     }
 
     public PageResponse<OrderResponse> getOrdersByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable) {
-        Page<Order> orderPage = orderRepository.findByUserIdAndOrderStatus(userId, status, pageable);
-        return PageResponse.of(orderPage.map(OrderResponse::fromWithoutItems));
+        Page<Long> idPage = orderRepository.findIdsByUserIdAndOrderStatus(userId, status, boundedPageable(pageable));
+        return PageResponse.of(fetchPageWithItems(idPage));
+    }
+
+    /**
+     * 2단계 페이징 - ID 페이지(LIMIT 적용)의 주문만 상품과 함께 한 번에 조회해 ID 순서대로 정렬
+     * 컬렉션 fetch join 에 Pageable 을 붙이면 전체 주문을 메모리에 올려 페이징하므로 분리
+     */
+    private Page<OrderResponse> fetchPageWithItems(Page<Long> idPage) {
+        List<Long> ids = idPage.getContent();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), idPage.getPageable(), idPage.getTotalElements());
+        }
+
+        Map<Long, Order> orderMap = orderRepository.findAllWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<OrderResponse> content = ids.stream()
+                .map(orderMap::get)
+                .filter(Objects::nonNull)
+                .map(OrderResponse::from)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * 페이지 크기 상한과 같은 값 정렬 시 순서 고정을 위한 ID 정렬 추가
+     */
+    private Pageable boundedPageable(Pageable pageable) {
+        Sort sort = pageable.getSort().and(Sort.by(Sort.Direction.DESC, "id"));
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
     }
 
     private void setShippingInfoFromDto(Order order, CreateOrderRequest.ShippingAddressDto dto) {
@@ -218,20 +306,28 @@ public class OrderService {
 
     @Transactional
     public void reduceProductStock(List<OrderItem> orderItems) {
-        for (OrderItem orderItem : orderItems) {
-            productService.reduceStock(orderItem.getProduct().getId(), orderItem.getQuantity());
-        }
+        StockReservation reservation = stockReservationService.reserve(toQuantities(orderItems));
+        stockReservationService.commit(reservation);
     }
 
     @Transactional
     public void restoreProductStock(List<OrderItem> orderItems) {
+        stockReservationService.release(new StockReservation(toQuantities(orderItems)));
+    }
+
+    private Map<Long, Integer> toQuantities(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new HashMap<>();
         for (OrderItem orderItem : orderItems) {
-            productService.increaseStock(orderItem.getProduct().getId(), orderItem.getQuantity());
+            quantities.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum);
         }
+        return quantities;
     }
 
     private void invalidateOrderCache(Long userId) {
-        String cachePattern = "orders:user:" + userId + ":*";
-        cacheService.deletePattern(cachePattern);
+        cacheService.invalidateTag(orderCacheTag(userId));
+    }
+
+    public static String orderCacheTag(Long userId) {
+        return "user:" + userId + ":orders";
     }
 }
\ No newline at end of file
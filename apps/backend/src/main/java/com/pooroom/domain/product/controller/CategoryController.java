@@ -20,11 +20,7 @@ public class CategoryController {
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
-        List<Category> categories = categoryService.findAllActiveCategories();
-        List<CategoryResponse> response = categories.stream()
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
-        
+        List<CategoryResponse> response = categoryService.findAllActiveCategoryResponses();
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
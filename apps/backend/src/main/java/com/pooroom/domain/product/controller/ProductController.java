@@ -1,7 +1,9 @@
 package com.pooroom.domain.product.controller;
 
 import com.pooroom.common.dto.ApiResponse;
+import com.pooroom.common.dto.CursorPageResponse;
 import com.pooroom.common.dto.PageResponse;
+import com.pooroom.domain.product.dto.ProductFilterResponse;
 import com.pooroom.domain.product.dto.ProductResponse;
 import com.pooroom.domain.product.dto.ProductSearchRequest;
 import com.pooroom.domain.product.entity.Product;
@@ -43,6 +45,15 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ProductResponse>>> getProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        CursorPageResponse<ProductResponse> response = productService.findActiveProductsByCursor(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(@PathVariable Long id) {
         ProductResponse response = productService.findByIdAsDto(id);
@@ -88,7 +99,7 @@ public class ProductController {
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "relevance") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDirection) {
         
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
@@ -141,8 +152,10 @@ public class ProductController {
     }
 
     @GetMapping("/filter")
-    public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> filterProducts(
+    public ResponseEntity<ApiResponse<ProductFilterResponse>> filterProducts(
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) Boolean isFeatured,
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(defaultValue = "0") int page,
@@ -153,22 +166,20 @@ public class ProductController {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Product> productPage;
-        
-        if (categoryId != null && minPrice != null && maxPrice != null) {
-            productPage = productService.findByCategoryAndPriceRange(categoryId, minPrice, maxPrice, pageable);
-        } else if (minPrice != null && maxPrice != null) {
-            productPage = productService.findProductsByPriceRange(minPrice, maxPrice, pageable);
-        } else if (categoryId != null) {
-            productPage = productService.findProductsByCategory(categoryId, pageable);
-        } else {
-            productPage = productService.findAllActiveProducts(pageable);
-        }
+        ProductSearchRequest request = ProductSearchRequest.builder()
+                .categoryId(categoryId)
+                .brandId(brandId)
+                .isFeatured(isFeatured)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .page(page)
+                .size(size)
+                .build();
         
-        PageResponse<ProductResponse> response = PageResponse.of(
-                productPage.map(ProductResponse::from)
-        );
+        ProductFilterResponse response = productService.filterProducts(request, pageable);
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.pooroom.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 필터 패싯 건수 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetResponse {
+
+    private List<FacetCount> categories;        // 카테고리별 건수 (카테고리 조건 제외)
+    private List<FacetCount> brands;            // 브랜드별 건수 (브랜드 조건 제외)
+    private long featuredCount;                 // 추천 상품 건수 (추천 조건 제외)
+    private List<PriceRangeCount> priceRanges;  // 가격 구간별 건수 (가격 조건 제외)
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private Long id;
+        private long count;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceRangeCount {
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;            // null 이면 상한 없음
+        private long count;
+    }
+}
@@ -0,0 +1,32 @@
+package com.pooroom.domain.product.dto;
+
+import com.pooroom.common.dto.PageResponse;
+import org.springframework.data.domain.Page;
+
+/**
+ * 상품 필터 응답 DTO (페이지 + 패싯 건수)
+ */
+public class ProductFilterResponse extends PageResponse<ProductResponse> {
+
+    private ProductFacetResponse facets;
+
+    public ProductFilterResponse() {}
+
+    public ProductFilterResponse(Page<ProductResponse> page, ProductFacetResponse facets) {
+        super(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(),
+              page.isFirst(), page.isLast(), page.hasNext(), page.hasPrevious());
+        this.facets = facets;
+    }
+
+    public static ProductFilterResponse of(Page<ProductResponse> page, ProductFacetResponse facets) {
+        return new ProductFilterResponse(page, facets);
+    }
+
+    public ProductFacetResponse getFacets() {
+        return facets;
+    }
+
+    public void setFacets(ProductFacetResponse facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,68 @@
+package com.pooroom.domain.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.entity.ProductStatus;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 가격/재고 읽기 모델 (불변)
+ * 장바구니/주문/게시판 검증처럼 가격과 재고만 필요한 경로에서 엔티티 대신 사용
+ */
+@Getter
+public class ProductSnapshot {
+
+    private final Long id;
+    private final BigDecimal price;
+    private final BigDecimal discountPrice;
+    private final Integer stockQuantity;
+    private final ProductStatus status;
+
+    // JPQL 생성자 프로젝션과 Redis 역직렬화에서 함께 사용
+    @JsonCreator
+    public ProductSnapshot(@JsonProperty("id") Long id,
+                           @JsonProperty("price") BigDecimal price,
+                           @JsonProperty("discountPrice") BigDecimal discountPrice,
+                           @JsonProperty("stockQuantity") Integer stockQuantity,
+                           @JsonProperty("status") ProductStatus status) {
+        this.id = id;
+        this.price = price;
+        this.discountPrice = discountPrice;
+        this.stockQuantity = stockQuantity;
+        this.status = status;
+    }
+
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(
+                product.getId(),
+                product.getPrice(),
+                product.getDiscountPrice(),
+                product.getStockQuantity(),
+                product.getStatus()
+        );
+    }
+
+    @JsonIgnore
+    public boolean isActive() {
+        return status == ProductStatus.ACTIVE;
+    }
+
+    @JsonIgnore
+    public boolean isOnSale() {
+        return discountPrice != null && discountPrice.compareTo(price) < 0;
+    }
+
+    @JsonIgnore
+    public boolean isInStock() {
+        return stockQuantity != null && stockQuantity > 0;
+    }
+
+    @JsonIgnore
+    public BigDecimal getEffectivePrice() {
+        return isOnSale() ? discountPrice : price;
+    }
+}
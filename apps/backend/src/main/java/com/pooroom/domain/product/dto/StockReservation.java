@@ -0,0 +1,25 @@
+package com.pooroom.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 예약 결과 (상품 ID -> 차감 수량, ID 오름차순)
+ * 예약은 현재 트랜잭션 안에서 이미 차감된 상태이며, 롤백되면 함께 취소됨
+ */
+@Getter
+public class StockReservation {
+
+    private final Map<Long, Integer> quantities;
+
+    public StockReservation(Map<Long, Integer> quantities) {
+        this.quantities = Collections.unmodifiableMap(new TreeMap<>(quantities));
+    }
+
+    public boolean isEmpty() {
+        return quantities.isEmpty();
+    }
+}
@@ -96,6 +96,7 @@ public class Product {
         updatedAt = LocalDateTime.now();
     }
 
+    // 판매가가 바뀌는 변경은 ProductUpdateService 를 통해서만 호출 (가격 변경 이벤트 발행)
     public void updateBasicInfo(String name, String description, BigDecimal price) {
         this.name = name;
         this.description = description;
@@ -0,0 +1,23 @@
+package com.pooroom.domain.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 판매가(할인 반영) 변경 이벤트 (아웃박스 payload)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPriceChangedEvent {
+
+    public static final String TYPE = "PRODUCT_PRICE_CHANGED";
+    public static final String AGGREGATE_TYPE = "PRODUCT";
+
+    private Long productId;
+    private BigDecimal previousPrice;
+    private BigDecimal effectivePrice;
+}
@@ -33,4 +33,8 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     @Query("SELECT COUNT(c) FROM Category c WHERE c.parent.id = :parentId")
     long countChildCategories(@Param("parentId") Long parentId);
+
+    // 패싯 색인의 카테고리 트리 구성용 [id, parentId]
+    @Query("SELECT c.id, p.id FROM Category c LEFT JOIN c.parent p")
+    List<Object[]> findAllIdAndParentId();
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package com.pooroom.domain.product.repository;
 
+import com.pooroom.domain.product.dto.ProductSnapshot;
 import com.pooroom.domain.product.entity.Product;
 import com.pooroom.domain.product.entity.ProductStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,10 +64,58 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
                                               @Param("maxPrice") BigDecimal maxPrice,
                                               Pageable pageable);
 
+    // 패싯 색인 적재 전 대체 경로 (categoryIds 는 하위 카테고리까지 펼친 목록, 카테고리 조건이 없으면 filterByCategory = false)
+    @Query("SELECT p FROM Product p WHERE p.status = 'ACTIVE' AND " +
+           "(:filterByCategory = false OR p.category.id IN :categoryIds) AND " +
+           "(:brandId IS NULL OR p.brand.id = :brandId) AND " +
+           "(:isFeatured IS NULL OR p.isFeatured = :isFeatured) AND " +
+           "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+           "(:maxPrice IS NULL OR p.price <= :maxPrice)")
+    Page<Product> filterActiveProducts(@Param("filterByCategory") boolean filterByCategory,
+                                       @Param("categoryIds") Collection<Long> categoryIds,
+                                       @Param("brandId") Long brandId,
+                                       @Param("isFeatured") Boolean isFeatured,
+                                       @Param("minPrice") BigDecimal minPrice,
+                                       @Param("maxPrice") BigDecimal maxPrice,
+                                       Pageable pageable);
+
+    // 커서 페이징 (createdAt DESC, id DESC) - COUNT 없이 size + 1 건만 조회
+    @Query("SELECT p FROM Product p WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Product> findSliceByStatus(@Param("status") ProductStatus status, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.status = :status AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Product> findSliceByStatusAfter(@Param("status") ProductStatus status,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
     List<Product> findTop10ByStatusOrderByCreatedAtDesc(ProductStatus status);
 
     List<Product> findTop10ByStatusAndIsFeaturedOrderByCreatedAtDesc(ProductStatus status, Boolean isFeatured);
 
     @Query("SELECT COUNT(p) FROM Product p WHERE p.status = :status")
     long countByStatus(@Param("status") ProductStatus status);
+
+    // 가격/재고 읽기 모델 (연관 엔티티 로딩 없음)
+    @Query("SELECT new com.pooroom.domain.product.dto.ProductSnapshot(p.id, p.price, p.discountPrice, p.stockQuantity, p.status) " +
+           "FROM Product p WHERE p.id = :id")
+    Optional<ProductSnapshot> findSnapshotById(@Param("id") Long id);
+
+    // 정보/가격 변경용 행 잠금 조회 - 엔티티 flush 는 재고/상태 컬럼까지 다시 쓰므로 그 사이 재고 차감(JDBC)이 커밋되지 못하게 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    // 검색/패싯 색인 적재용 (브랜드명까지 한 번에 로딩)
+    @Query("SELECT p FROM Product p JOIN FETCH p.brand")
+    List<Product> findAllForIndexing();
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.brand WHERE p.id IN :ids")
+    List<Product> findAllForIndexingByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 색인 검색 결과 ID 로 응답용 엔티티 조회
+    @Query("SELECT p FROM Product p JOIN FETCH p.brand JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Product> findAllWithBrandAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.pooroom.domain.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 재고 일괄 갱신 (JDBC batch)
+ * 여러 상품의 조건부 UPDATE 를 한 번의 batch 로 전송 (rewriteBatchedStatements 사용 시 단일 왕복)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+
+    // 상태를 먼저 계산해 차감 전 재고 기준으로 SOLDOUT 판단 (MySQL 은 SET 을 왼쪽부터 평가)
+    private static final String DECREASE_SQL =
+            "UPDATE products SET " +
+            "status = CASE WHEN stock_quantity - ? <= 0 THEN 'SOLDOUT' ELSE status END, " +
+            "stock_quantity = stock_quantity - ?, updated_at = ? " +
+            "WHERE id = ? AND status = 'ACTIVE' AND stock_quantity >= ?";
+
+    private static final String INCREASE_SQL =
+            "UPDATE products SET " +
+            "status = CASE WHEN status = 'SOLDOUT' AND stock_quantity + ? > 0 THEN 'ACTIVE' ELSE status END, " +
+            "stock_quantity = stock_quantity + ?, updated_at = ? " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param quantities 상품 ID -> 수량 (호출자가 ID 오름차순으로 전달해야 잠금 순서가 고정됨)
+     * @return 차감하지 못한 상품 ID 목록
+     */
+    public List<Long> decreaseAll(Map<Long, Integer> quantities, LocalDateTime now) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<Object[]> args = new ArrayList<>(productIds.size());
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        for (Long productId : productIds) {
+            int quantity = quantities.get(productId);
+            args.add(new Object[]{quantity, quantity, updatedAt, productId, quantity});
+        }
+        return failedIds(productIds, jdbcTemplate.batchUpdate(DECREASE_SQL, args));
+    }
+
+    /**
+     * @return 존재하지 않아 복원하지 못한 상품 ID 목록
+     */
+    public List<Long> increaseAll(Map<Long, Integer> quantities, LocalDateTime now) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<Object[]> args = new ArrayList<>(productIds.size());
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        for (Long productId : productIds) {
+            int quantity = quantities.get(productId);
+            args.add(new Object[]{quantity, quantity, updatedAt, productId});
+        }
+        return failedIds(productIds, jdbcTemplate.batchUpdate(INCREASE_SQL, args));
+    }
+
+    private List<Long> failedIds(List<Long> productIds, int[] updateCounts) {
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                failed.add(productIds.get(i));
+            }
+        }
+        return failed;
+    }
+}
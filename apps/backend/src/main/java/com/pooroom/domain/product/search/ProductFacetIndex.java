@@ -0,0 +1,368 @@
+package com.pooroom.domain.product.search;
+
+import com.pooroom.domain.product.dto.ProductFacetResponse;
+import com.pooroom.domain.product.dto.ProductSearchRequest;
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.entity.ProductStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 패싯 색인
+ * 카테고리/브랜드/추천여부/상태/가격구간별 상품 ID 비트맵을 유지하고, 조건 조합을 비트맵 교집합으로 처리
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex {
+
+    // 가격 구간 경계 (원), 마지막 구간은 상한 없음
+    private static final BigDecimal[] PRICE_BOUNDARIES = {
+            BigDecimal.ZERO,
+            new BigDecimal("10000"),
+            new BigDecimal("30000"),
+            new BigDecimal("50000"),
+            new BigDecimal("100000"),
+            new BigDecimal("200000")
+    };
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Facets facets = new Facets(new HashMap<>());
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 재구성 (락 밖에서 새 비트맵을 만든 뒤 교체, 재구성 중에도 기존 색인으로 조회 가능)
+     *
+     * @param categoryParents 카테고리 ID -> 상위 카테고리 ID (루트는 null)
+     */
+    public void rebuild(Collection<Product> products, Map<Long, Long> categoryParents) {
+        Map<Long, List<Long>> children = new HashMap<>();
+        categoryParents.forEach((categoryId, parentId) -> {
+            if (parentId != null) {
+                children.computeIfAbsent(parentId, k -> new ArrayList<>()).add(categoryId);
+            }
+        });
+
+        Facets rebuilt = new Facets(children);
+        for (Product product : products) {
+            rebuilt.add(FacetDocument.from(product));
+        }
+        rebuilt.runOptimize();
+
+        lock.writeLock().lock();
+        try {
+            facets = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 패싯 색인 재구성: documents={}, categories={}, brands={}",
+                rebuilt.documents.size(), rebuilt.byCategory.size(), rebuilt.byBrand.size());
+    }
+
+    public void index(Product product) {
+        FacetDocument document = FacetDocument.from(product);
+        lock.writeLock().lock();
+        try {
+            facets.remove(document.id);
+            facets.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            facets.remove(Math.toIntExact(productId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ACTIVE 상품 중 조건에 맞는 상품을 정렬/페이징하고, 패싯별 건수를 함께 계산
+     * 패싯 건수는 해당 패싯 조건만 제외하고 나머지 조건을 적용한 값 (선택 변경 시 결과 건수 미리보기)
+     */
+    public ProductFacetResult filter(ProductSearchRequest request, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap active = bitmapOrEmpty(facets.byStatus.get(ProductStatus.ACTIVE));
+            RoaringBitmap categoryFilter = request.getCategoryId() != null ? facets.categorySubtree(request.getCategoryId()) : null;
+            RoaringBitmap brandFilter = request.getBrandId() != null ? bitmapOrEmpty(facets.byBrand.get(request.getBrandId())) : null;
+            RoaringBitmap featuredFilter = request.getIsFeatured() == null ? null
+                    : request.getIsFeatured() ? facets.featured : RoaringBitmap.andNot(active, facets.featured);
+            RoaringBitmap priceFilter = hasPriceFilter(request)
+                    ? facets.priceRange(request.getMinPrice(), request.getMaxPrice()) : null;
+
+            RoaringBitmap matched = intersect(active, categoryFilter, brandFilter, featuredFilter, priceFilter);
+
+            ProductFacetResponse facetCounts = ProductFacetResponse.builder()
+                    .categories(countBy(facets.byCategory, intersect(active, brandFilter, featuredFilter, priceFilter)))
+                    .brands(countBy(facets.byBrand, intersect(active, categoryFilter, featuredFilter, priceFilter)))
+                    .featuredCount(RoaringBitmap.andCardinality(facets.featured,
+                            intersect(active, categoryFilter, brandFilter, priceFilter)))
+                    .priceRanges(facets.countPriceBuckets(intersect(active, categoryFilter, brandFilter, featuredFilter)))
+                    .build();
+
+            List<FacetDocument> hits = new ArrayList<>(matched.getCardinality());
+            IntIterator iterator = matched.getIntIterator();
+            while (iterator.hasNext()) {
+                hits.add(facets.documents.get(iterator.next()));
+            }
+            hits.sort(comparator(pageable.getSort()));
+
+            int from = (int) Math.min(pageable.getOffset(), hits.size());
+            int to = Math.min(from + pageable.getPageSize(), hits.size());
+            List<Long> productIds = new ArrayList<>(to - from);
+            for (FacetDocument document : hits.subList(from, to)) {
+                productIds.add((long) document.id);
+            }
+            return new ProductFacetResult(productIds, hits.size(), facetCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean hasPriceFilter(ProductSearchRequest request) {
+        return request.getMinPrice() != null || request.getMaxPrice() != null;
+    }
+
+    private List<ProductFacetResponse.FacetCount> countBy(Map<Long, RoaringBitmap> facet, RoaringBitmap base) {
+        List<ProductFacetResponse.FacetCount> counts = new ArrayList<>();
+        facet.forEach((id, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(bitmap, base);
+            if (count > 0) {
+                counts.add(new ProductFacetResponse.FacetCount(id, count));
+            }
+        });
+        counts.sort(Comparator.comparingLong(ProductFacetResponse.FacetCount::getCount).reversed()
+                .thenComparing(ProductFacetResponse.FacetCount::getId));
+        return counts;
+    }
+
+    private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base.clone();
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static RoaringBitmap bitmapOrEmpty(RoaringBitmap bitmap) {
+        return bitmap != null ? bitmap : new RoaringBitmap();
+    }
+
+    private static void removeFrom(Map<Long, RoaringBitmap> facet, Long key, int productId) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = facet.get(key);
+        if (bitmap != null) {
+            bitmap.remove(productId);
+            if (bitmap.isEmpty()) {
+                facet.remove(key);
+            }
+        }
+    }
+
+    private static int priceBucket(BigDecimal price) {
+        for (int i = PRICE_BOUNDARIES.length - 1; i > 0; i--) {
+            if (price.compareTo(PRICE_BOUNDARIES[i]) >= 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static Comparator<FacetDocument> comparator(Sort sort) {
+        Comparator<FacetDocument> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<FacetDocument> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(d -> d.createdAt,
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+                case "price" -> Comparator.comparing(d -> d.price);
+                case "name" -> Comparator.comparing(d -> d.name,
+                        Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+                default -> null;
+            };
+            if (next == null) {
+                continue;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        Comparator<FacetDocument> byNewest = Comparator.<FacetDocument>comparingInt(d -> d.id).reversed();
+        return comparator == null ? byNewest : comparator.thenComparing(byNewest);
+    }
+
+    /** 패싯별 비트맵 묶음 (재구성 시 통째로 교체) */
+    private static final class Facets {
+        private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+        private final Map<Long, RoaringBitmap> byBrand = new HashMap<>();
+        private final Map<ProductStatus, RoaringBitmap> byStatus = new EnumMap<>(ProductStatus.class);
+        private final RoaringBitmap featured = new RoaringBitmap();
+        private final RoaringBitmap[] byPriceBucket = new RoaringBitmap[PRICE_BOUNDARIES.length];
+        private final Map<Integer, FacetDocument> documents = new HashMap<>();
+        private final Map<Long, List<Long>> childCategories;
+
+        private Facets(Map<Long, List<Long>> childCategories) {
+            this.childCategories = childCategories;
+            for (int i = 0; i < byPriceBucket.length; i++) {
+                byPriceBucket[i] = new RoaringBitmap();
+            }
+        }
+
+        /**
+         * 하위 카테고리까지 포함한 합집합
+         */
+        RoaringBitmap categorySubtree(Long categoryId) {
+            RoaringBitmap result = new RoaringBitmap();
+            Deque<Long> stack = new ArrayDeque<>();
+            Set<Long> visited = new HashSet<>();
+            stack.push(categoryId);
+            while (!stack.isEmpty()) {
+                Long current = stack.pop();
+                if (!visited.add(current)) {
+                    continue;
+                }
+                RoaringBitmap bitmap = byCategory.get(current);
+                if (bitmap != null) {
+                    result.or(bitmap);
+                }
+                childCategories.getOrDefault(current, Collections.emptyList()).forEach(stack::push);
+            }
+            return result;
+        }
+
+        /**
+         * 구간 전체가 범위 안인 버킷은 그대로 합치고, 경계에 걸친 버킷만 개별 가격 비교 (BETWEEN 과 동일하게 양끝 포함)
+         */
+        RoaringBitmap priceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+            RoaringBitmap result = new RoaringBitmap();
+            for (int i = 0; i < byPriceBucket.length; i++) {
+                BigDecimal lower = PRICE_BOUNDARIES[i];
+                BigDecimal upper = i + 1 < PRICE_BOUNDARIES.length ? PRICE_BOUNDARIES[i + 1] : null;
+
+                boolean belowMin = minPrice != null && upper != null && upper.compareTo(minPrice) <= 0;
+                boolean aboveMax = maxPrice != null && lower.compareTo(maxPrice) > 0;
+                if (belowMin || aboveMax) {
+                    continue;
+                }
+
+                boolean fullyInside = (minPrice == null || lower.compareTo(minPrice) >= 0)
+                        && (maxPrice == null || (upper != null && upper.compareTo(maxPrice) <= 0));
+                if (fullyInside) {
+                    result.or(byPriceBucket[i]);
+                    continue;
+                }
+
+                IntIterator iterator = byPriceBucket[i].getIntIterator();
+                while (iterator.hasNext()) {
+                    int id = iterator.next();
+                    BigDecimal price = documents.get(id).price;
+                    if ((minPrice == null || price.compareTo(minPrice) >= 0)
+                            && (maxPrice == null || price.compareTo(maxPrice) <= 0)) {
+                        result.add(id);
+                    }
+                }
+            }
+            return result;
+        }
+
+        List<ProductFacetResponse.PriceRangeCount> countPriceBuckets(RoaringBitmap base) {
+            List<ProductFacetResponse.PriceRangeCount> counts = new ArrayList<>();
+            for (int i = 0; i < byPriceBucket.length; i++) {
+                BigDecimal upper = i + 1 < PRICE_BOUNDARIES.length ? PRICE_BOUNDARIES[i + 1] : null;
+                counts.add(new ProductFacetResponse.PriceRangeCount(
+                        PRICE_BOUNDARIES[i], upper, RoaringBitmap.andCardinality(byPriceBucket[i], base)));
+            }
+            return counts;
+        }
+
+        void add(FacetDocument document) {
+            documents.put(document.id, document);
+            if (document.categoryId != null) {
+                byCategory.computeIfAbsent(document.categoryId, k -> new RoaringBitmap()).add(document.id);
+            }
+            if (document.brandId != null) {
+                byBrand.computeIfAbsent(document.brandId, k -> new RoaringBitmap()).add(document.id);
+            }
+            byStatus.computeIfAbsent(document.status, k -> new RoaringBitmap()).add(document.id);
+            if (document.featured) {
+                featured.add(document.id);
+            }
+            byPriceBucket[priceBucket(document.price)].add(document.id);
+        }
+
+        void remove(int productId) {
+            FacetDocument previous = documents.remove(productId);
+            if (previous == null) {
+                return;
+            }
+            removeFrom(byCategory, previous.categoryId, productId);
+            removeFrom(byBrand, previous.brandId, productId);
+            RoaringBitmap status = byStatus.get(previous.status);
+            if (status != null) {
+                status.remove(productId);
+            }
+            featured.remove(productId);
+            byPriceBucket[priceBucket(previous.price)].remove(productId);
+        }
+
+        void runOptimize() {
+            byCategory.values().forEach(RoaringBitmap::runOptimize);
+            byBrand.values().forEach(RoaringBitmap::runOptimize);
+            byStatus.values().forEach(RoaringBitmap::runOptimize);
+            featured.runOptimize();
+            for (RoaringBitmap bucket : byPriceBucket) {
+                bucket.runOptimize();
+            }
+        }
+    }
+
+    /** 패싯 색인 문서 */
+    private static final class FacetDocument {
+        private final int id;
+        private final Long categoryId;
+        private final Long brandId;
+        private final ProductStatus status;
+        private final boolean featured;
+        private final BigDecimal price;
+        private final LocalDateTime createdAt;
+        private final String name;
+
+        private FacetDocument(Product product) {
+            this.id = Math.toIntExact(product.getId());
+            this.categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+            this.brandId = product.getBrand() != null ? product.getBrand().getId() : null;
+            this.status = product.getStatus();
+            this.featured = Boolean.TRUE.equals(product.getIsFeatured());
+            this.price = product.getPrice() != null ? product.getPrice() : BigDecimal.ZERO;
+            this.createdAt = product.getCreatedAt();
+            this.name = product.getName();
+        }
+
+        static FacetDocument from(Product product) {
+            return new FacetDocument(product);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pooroom.domain.product.search;
+
+import com.pooroom.domain.product.dto.ProductFacetResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 패싯 필터 결과 (현재 페이지 상품 ID + 전체 매칭 건수 + 패싯 건수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductFacetResult {
+
+    private final List<Long> productIds;
+    private final long totalElements;
+    private final ProductFacetResponse facets;
+}
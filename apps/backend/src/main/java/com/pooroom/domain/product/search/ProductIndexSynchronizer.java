@@ -0,0 +1,99 @@
+package com.pooroom.domain.product.search;
+
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.repository.CategoryRepository;
+import com.pooroom.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 검색/패싯 색인 동기화
+ * 기동 시 전체 적재, 주기적 전체 재구성, 상품 변경 시 커밋 이후 단건 재색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexSynchronizer {
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${product.index.rebuild-interval-ms:600000}",
+               initialDelayString = "${product.index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            productSearchIndex.beginRebuild();
+            List<Product> products = productRepository.findAllForIndexing();
+            productSearchIndex.rebuild(products);
+            productFacetIndex.rebuild(products, loadCategoryParents());
+        } catch (Exception e) {
+            log.error("상품 검색 색인 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, Long> loadCategoryParents() {
+        Map<Long, Long> categoryParents = new HashMap<>();
+        for (Object[] row : categoryRepository.findAllIdAndParentId()) {
+            categoryParents.put((Long) row[0], (Long) row[1]);
+        }
+        return categoryParents;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 재색인
+     */
+    public void refreshAfterCommit(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(productIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(ids);
+                }
+            });
+        } else {
+            refresh(ids);
+        }
+    }
+
+    public void refresh(Collection<Long> productIds) {
+        try {
+            Set<Long> missing = new HashSet<>(productIds);
+            for (Product product : productRepository.findAllForIndexingByIdIn(productIds)) {
+                productSearchIndex.index(product);
+                productFacetIndex.index(product);
+                missing.remove(product.getId());
+            }
+            missing.forEach(id -> {
+                productSearchIndex.remove(id);
+                productFacetIndex.remove(id);
+            });
+            log.debug("상품 검색 색인 갱신: productIds={}", productIds);
+        } catch (Exception e) {
+            log.error("상품 검색 색인 갱신 실패: productIds={}, error={}", productIds, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.pooroom.domain.product.search;
+
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.entity.ProductStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색 역색인
+ * 상품명/설명/브랜드명을 n-gram 으로 색인하고, 후보를 부분 문자열로 재검증해 LIKE 검색과 같은 결과를 랭킹/페이징하여 반환
+ * (검색어 전체가 한 필드에 부분 문자열로 있어야 매칭, 단어별 점수는 랭킹에만 사용)
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double BRAND_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double PREFIX_BONUS = 1.5;
+    private static final String RELEVANCE = "relevance";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private Map<Long, IndexedProduct> documents = new HashMap<>();
+    // 재구성 중 들어온 단건 변경 (교체 후 다시 적용, 값이 null 이면 제거), 재구성 중이 아니면 null
+    private Map<Long, IndexedProduct> changesDuringRebuild;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재구성용 상품 목록을 읽기 전에 호출 - 이후 들어온 단건 변경은 기록해 두었다가 rebuild 의 교체 후 다시 적용
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인 (락 밖에서 새 색인을 만든 뒤 교체)
+     * 목록을 읽은 뒤 반영된 단건 변경이 이전 스냅샷으로 되돌아가지 않도록 beginRebuild 이후 변경을 교체 직후 다시 적용
+     */
+    public void rebuild(Collection<Product> products) {
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        Map<Long, IndexedProduct> newDocuments = new HashMap<>();
+        for (Product product : products) {
+            if (product.getStatus() == ProductStatus.ACTIVE) {
+                IndexedProduct document = IndexedProduct.from(product);
+                newDocuments.put(document.id, document);
+                addPostings(newPostings, document);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.forEach(this::applyInternal);
+                changesDuringRebuild = null;
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 검색 색인 재구성: documents={}, grams={}", newDocuments.size(), newPostings.size());
+    }
+
+    /**
+     * 단건 색인 갱신 (ACTIVE 가 아니면 색인에서 제외)
+     */
+    public void index(Product product) {
+        IndexedProduct document = product.getStatus() == ProductStatus.ACTIVE ? IndexedProduct.from(product) : null;
+        lock.writeLock().lock();
+        try {
+            applyInternal(product.getId(), document);
+            recordChange(product.getId(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            applyInternal(productId, null);
+            recordChange(productId, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ProductSearchResult search(String keyword, Pageable pageable) {
+        String phrase = ProductTokenizer.normalize(keyword).strip();
+        List<String> words = ProductTokenizer.words(phrase);
+        if (words.isEmpty()) {
+            return ProductSearchResult.empty();
+        }
+
+        List<ScoredProduct> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : findCandidates(words)) {
+                IndexedProduct document = documents.get(id);
+                double score = document.score(phrase, words);
+                if (score > 0) {
+                    matches.add(new ScoredProduct(document, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(comparator(pageable.getSort()));
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<Long> productIds = new ArrayList<>(to - from);
+        for (ScoredProduct match : matches.subList(from, to)) {
+            productIds.add(match.document.id);
+        }
+        return new ProductSearchResult(productIds, matches.size());
+    }
+
+    /**
+     * 단어별 gram posting 교집합 (가장 짧은 posting 부터 교차)
+     */
+    private Set<Long> findCandidates(List<String> words) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String word : words) {
+            for (String gram : ProductTokenizer.queryGrams(word)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return Collections.emptySet();
+                }
+                lists.add(posting);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return candidates;
+    }
+
+    private void applyInternal(Long productId, IndexedProduct document) {
+        removeInternal(productId);
+        if (document != null) {
+            documents.put(document.id, document);
+            addPostings(postings, document);
+        }
+    }
+
+    private void recordChange(Long productId, IndexedProduct document) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.put(productId, document);
+        }
+    }
+
+    private void removeInternal(Long productId) {
+        IndexedProduct previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void addPostings(Map<String, Set<Long>> target, IndexedProduct document) {
+        for (String gram : document.grams) {
+            target.computeIfAbsent(gram, k -> new HashSet<>()).add(document.id);
+        }
+    }
+
+    /**
+     * 정렬 조건이 relevance 이거나 지원하지 않는 필드면 점수순, 동점은 최신순
+     */
+    private static Comparator<ScoredProduct> comparator(Sort sort) {
+        Comparator<ScoredProduct> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<ScoredProduct> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(m -> m.document.createdAt,
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+                case "price" -> Comparator.comparing(m -> m.document.price,
+                        Comparator.nullsFirst(Comparator.<BigDecimal>naturalOrder()));
+                case "name" -> Comparator.comparing(m -> m.document.name,
+                        Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+                case RELEVANCE -> Comparator.comparingDouble(m -> m.score);
+                default -> null;
+            };
+            if (next == null) {
+                continue;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        Comparator<ScoredProduct> byRelevance = Comparator.<ScoredProduct>comparingDouble(m -> m.score).reversed();
+        Comparator<ScoredProduct> byNewest = Comparator.<ScoredProduct, Long>comparing(m -> m.document.id).reversed();
+        return comparator == null
+                ? byRelevance.thenComparing(byNewest)
+                : comparator.thenComparing(byRelevance).thenComparing(byNewest);
+    }
+
+    /** 색인된 상품 문서 */
+    private static final class IndexedProduct {
+        private final Long id;
+        private final String name;
+        private final BigDecimal price;
+        private final LocalDateTime createdAt;
+        private final String normalizedName;
+        private final String normalizedBrand;
+        private final String normalizedDescription;
+        private final Set<String> grams;
+
+        private IndexedProduct(Product product, String brandName) {
+            this.id = product.getId();
+            this.name = product.getName();
+            this.price = product.getPrice();
+            this.createdAt = product.getCreatedAt();
+            this.normalizedName = ProductTokenizer.normalize(product.getName());
+            this.normalizedBrand = ProductTokenizer.normalize(brandName);
+            this.normalizedDescription = ProductTokenizer.normalize(product.getDescription());
+
+            Set<String> allGrams = new HashSet<>();
+            allGrams.addAll(ProductTokenizer.indexGrams(normalizedName));
+            allGrams.addAll(ProductTokenizer.indexGrams(normalizedBrand));
+            allGrams.addAll(ProductTokenizer.indexGrams(normalizedDescription));
+            this.grams = allGrams;
+        }
+
+        static IndexedProduct from(Product product) {
+            String brandName = product.getBrand() != null ? product.getBrand().getName() : null;
+            return new IndexedProduct(product, brandName);
+        }
+
+        /**
+         * 검색어 전체가 어느 한 필드에 부분 문자열로 존재해야 매칭 (LIKE '%keyword%' 와 같은 조건, gram 교집합의 오탐 제거)
+         * 점수는 단어별로 일치한 필드 가중치 합
+         */
+        double score(String phrase, List<String> words) {
+            if (!normalizedName.contains(phrase) && !normalizedBrand.contains(phrase)
+                    && !normalizedDescription.contains(phrase)) {
+                return 0;
+            }
+            double score = 0;
+            for (String word : words) {
+                double wordScore = 0;
+                if (normalizedName.contains(word)) {
+                    wordScore += NAME_WEIGHT;
+                    if (normalizedName.startsWith(word)) {
+                        wordScore += PREFIX_BONUS;
+                    }
+                }
+                if (normalizedBrand.contains(word)) {
+                    wordScore += BRAND_WEIGHT;
+                }
+                if (normalizedDescription.contains(word)) {
+                    wordScore += DESCRIPTION_WEIGHT;
+                }
+                if (wordScore == 0) {
+                    return 0;
+                }
+                score += wordScore;
+            }
+            return score;
+        }
+    }
+
+    private static final class ScoredProduct {
+        private final IndexedProduct document;
+        private final double score;
+
+        private ScoredProduct(IndexedProduct document, double score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
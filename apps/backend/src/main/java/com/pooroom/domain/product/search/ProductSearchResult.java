@@ -0,0 +1,22 @@
+package com.pooroom.domain.product.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 역색인 검색 결과 (현재 페이지 상품 ID + 전체 매칭 건수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductSearchResult {
+
+    private final List<Long> productIds;
+    private final long totalElements;
+
+    public static ProductSearchResult empty() {
+        return new ProductSearchResult(Collections.emptyList(), 0);
+    }
+}
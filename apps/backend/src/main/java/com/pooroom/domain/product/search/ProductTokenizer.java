@@ -0,0 +1,82 @@
+package com.pooroom.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상품 검색용 토크나이저
+ * 공백/기호로 단어를 나눈 뒤 단어별 1-gram, 2-gram 을 생성 (한글은 형태소 분석 없이 n-gram 으로 부분 일치 지원)
+ */
+public final class ProductTokenizer {
+
+    private ProductTokenizer() {
+    }
+
+    /**
+     * 소문자 + NFC 정규화 (macOS 등에서 들어오는 자모 분리 한글 대응)
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열을 문자/숫자 단위 단어로 분리
+     */
+    public static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+        return words;
+    }
+
+    /**
+     * 색인용 n-gram 생성 (단어 경계를 넘는 gram 은 만들지 않음)
+     */
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(normalized)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 단어 하나를 조회할 때 교집합을 구할 gram 목록
+     * 2자 이상이면 2-gram 만, 1자면 해당 문자 자체
+     */
+    public static Set<String> queryGrams(String word) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (word.length() == 1) {
+            grams.add(word);
+            return grams;
+        }
+        for (int i = 0; i + 1 < word.length(); i++) {
+            grams.add(word.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -1,8 +1,10 @@
 package com.pooroom.domain.product.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
 import com.pooroom.common.service.CacheService;
+import com.pooroom.domain.product.dto.CategoryResponse;
 import com.pooroom.domain.product.entity.Category;
 import com.pooroom.domain.product.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -34,23 +36,18 @@ public class CategoryService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
     }
 
-    @SuppressWarnings("unchecked")
     public List<Category> findAllActiveCategories() {
-        // 캐시에서 먼저 조회
-        Object cachedCategories = cacheService.getCachedCategories();
-        if (cachedCategories instanceof List) {
-            log.debug("카테고리 목록 캐시에서 조회");
-            return (List<Category>) cachedCategories;
-        }
-        
-        // DB에서 조회
-        List<Category> categories = categoryRepository.findByIsActiveOrderBySortOrder(true);
-        
-        // 캐시에 저장
-        cacheService.cacheCategories(categories, CATEGORY_CACHE_DURATION);
-        log.debug("카테고리 목록 DB에서 조회 후 캐시 저장: count={}", categories.size());
-        
-        return categories;
+        return categoryRepository.findByIsActiveOrderBySortOrder(true);
+    }
+
+    /**
+     * 활성 카테고리 목록 (응답 DTO 로 캐시, 만료 시점의 동시 미스는 한 번만 조회)
+     */
+    public List<CategoryResponse> findAllActiveCategoryResponses() {
+        return cacheService.getOrLoadCategories(new TypeReference<List<CategoryResponse>>() {}, CATEGORY_CACHE_DURATION,
+                () -> findAllActiveCategories().stream()
+                        .map(CategoryResponse::from)
+                        .toList());
     }
 
     public List<Category> findRootCategories() {
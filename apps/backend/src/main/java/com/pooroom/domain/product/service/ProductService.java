@@ -1,22 +1,49 @@
 package com.pooroom.domain.product.service;
 
+import com.pooroom.common.dto.CursorPageResponse;
+import com.pooroom.common.dto.KeysetCursor;
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
 import com.pooroom.common.service.CacheService;
+import com.pooroom.common.util.CursorCodec;
+import com.pooroom.domain.product.dto.ProductFilterResponse;
 import com.pooroom.domain.product.dto.ProductResponse;
+import com.pooroom.domain.product.dto.ProductSearchRequest;
+import com.pooroom.domain.product.dto.ProductSnapshot;
+import com.pooroom.domain.product.dto.StockReservation;
 import com.pooroom.domain.product.entity.Product;
 import com.pooroom.domain.product.entity.ProductStatus;
+import com.pooroom.domain.product.repository.CategoryRepository;
 import com.pooroom.domain.product.repository.ProductRepository;
+import com.pooroom.domain.product.search.ProductFacetIndex;
+import com.pooroom.domain.product.search.ProductFacetResult;
+import com.pooroom.domain.product.search.ProductSearchIndex;
+import com.pooroom.domain.product.search.ProductSearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,52 +52,45 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
     private final CacheService cacheService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final StockReservationService stockReservationService;
     
     private static final Duration PRODUCT_CACHE_DURATION = Duration.ofMinutes(30);
     private static final Duration PRODUCT_LIST_CACHE_DURATION = Duration.ofMinutes(10);
+    private static final Duration PRODUCT_SNAPSHOT_CACHE_DURATION = Duration.ofMinutes(5);
 
+    /**
+     * 영속 엔티티가 필요한 쓰기 경로용 (캐시를 거치지 않음)
+     */
     public Product findById(Long id) {
-        // 캐시에서 먼저 조회 (DTO 형태로 저장)
-        Object cachedProduct = cacheService.getCachedProduct(id);
-        if (cachedProduct instanceof ProductResponse) {
-            log.debug("상품 캐시에서 조회: productId={}", id);
-            // 캐시된 DTO에서 필요한 경우 실제 엔티티를 다시 조회
-            return productRepository.findById(id)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-        }
-        
-        // DB에서 조회
-        Product product = productRepository.findById(id)
+        return productRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-        
-        // DTO로 변환하여 캐시에 저장
-        ProductResponse productResponse = ProductResponse.from(product);
-        cacheService.cacheProduct(id, productResponse, PRODUCT_CACHE_DURATION);
-        log.debug("상품 DB에서 조회 후 DTO로 캐시 저장: productId={}", id);
-        
-        return product;
+    }
+
+    /**
+     * 연관관계 설정용 프록시 (SELECT 없이 FK 만 필요할 때, 존재 여부는 호출 측에서 확인)
+     */
+    public Product getReference(Long id) {
+        return productRepository.getReferenceById(id);
+    }
+
+    /**
+     * 가격/재고 검증용 읽기 모델 (캐시 우선)
+     */
+    public ProductSnapshot findSnapshot(Long id) {
+        return cacheService.getOrLoadProductSnapshot(id, ProductSnapshot.class, PRODUCT_SNAPSHOT_CACHE_DURATION,
+                () -> productRepository.findSnapshotById(id)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND)));
     }
     
     public ProductResponse findByIdAsDto(Long id) {
-        // 캐시에서 먼저 조회
-        Object cachedProduct = cacheService.getCachedProduct(id);
-        if (cachedProduct instanceof ProductResponse) {
-            log.debug("상품 DTO 캐시에서 조회: productId={}", id);
-            return (ProductResponse) cachedProduct;
-        }
-        
-        // DB에서 조회 후 DTO 변환
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
-        
-        ProductResponse productResponse = ProductResponse.from(product);
-        
-        // DTO로 캐시에 저장
-        cacheService.cacheProduct(id, productResponse, PRODUCT_CACHE_DURATION);
-        log.debug("상품 DB에서 조회 후 DTO로 캐시 저장: productId={}", id);
-        
-        return productResponse;
+        // 캐시 미스가 몰려도 DB 조회는 한 번만 (CacheService.getOrLoad)
+        return cacheService.getOrLoadProduct(id, ProductResponse.class, PRODUCT_CACHE_DURATION,
+                () -> ProductResponse.from(productRepository.findById(id)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND))));
     }
 
     public Product findBySku(String sku) {
@@ -82,6 +102,30 @@ public class ProductService {
         return productRepository.findByStatus(ProductStatus.ACTIVE, pageable);
     }
 
+    /**
+     * 커서 기반 상품 목록 (최신순, COUNT 쿼리 없음)
+     */
+    public CursorPageResponse<ProductResponse> findActiveProductsByCursor(String cursor, int size) {
+        KeysetCursor after = CursorCodec.decode(cursor);
+        Pageable pageable = PageRequest.of(0, CursorCodec.pageSize(size));
+
+        Slice<Product> slice = after == null
+                ? productRepository.findSliceByStatus(ProductStatus.ACTIVE, pageable)
+                : productRepository.findSliceByStatusAfter(ProductStatus.ACTIVE, after.getSortKey(), after.getId(), pageable);
+
+        List<Product> products = slice.getContent();
+        KeysetCursor nextCursor = null;
+        if (!products.isEmpty()) {
+            Product last = products.get(products.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId());
+        }
+
+        List<ProductResponse> content = products.stream()
+                .map(ProductResponse::from)
+                .collect(Collectors.toList());
+        return CursorPageResponse.of(content, pageable.getPageSize(), slice.hasNext(), nextCursor);
+    }
+
     public Page<Product> findFeaturedProducts(Pageable pageable) {
         return productRepository.findByStatusAndIsFeatured(ProductStatus.ACTIVE, true, pageable);
     }
@@ -95,7 +139,80 @@ public class ProductService {
     }
 
     public Page<Product> searchProducts(String keyword, Pageable pageable) {
-        return productRepository.searchProducts(keyword, pageable);
+        // 색인 적재 전이면 기존 LIKE 검색으로 대체
+        if (!productSearchIndex.isReady()) {
+            return productRepository.searchProducts(keyword, withoutRelevanceSort(pageable));
+        }
+
+        ProductSearchResult result = productSearchIndex.search(keyword, pageable);
+        return new PageImpl<>(findAllByIdsInOrder(result.getProductIds()), pageable, result.getTotalElements());
+    }
+
+    /**
+     * 카테고리(하위 포함)/브랜드/추천/가격 조건 조합 필터 + 패싯 건수
+     */
+    public ProductFilterResponse filterProducts(ProductSearchRequest request, Pageable pageable) {
+        // 색인 적재 전이면 DB 조회 (패싯 건수 없음)
+        if (!productFacetIndex.isReady()) {
+            boolean filterByCategory = request.getCategoryId() != null;
+            Page<Product> productPage = productRepository.filterActiveProducts(
+                    filterByCategory, filterByCategory ? categorySubtreeIds(request.getCategoryId()) : List.of(0L),
+                    request.getBrandId(), request.getIsFeatured(),
+                    request.getMinPrice(), request.getMaxPrice(), pageable);
+            return ProductFilterResponse.of(productPage.map(ProductResponse::from), null);
+        }
+
+        ProductFacetResult result = productFacetIndex.filter(request, pageable);
+        Page<ProductResponse> productPage = new PageImpl<>(
+                findAllByIdsInOrder(result.getProductIds()), pageable, result.getTotalElements()
+        ).map(ProductResponse::from);
+        return ProductFilterResponse.of(productPage, result.getFacets());
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리 ID (패싯 색인의 categorySubtree 와 같은 범위)
+     */
+    private List<Long> categorySubtreeIds(Long categoryId) {
+        Map<Long, List<Long>> children = new HashMap<>();
+        for (Object[] row : categoryRepository.findAllIdAndParentId()) {
+            if (row[1] != null) {
+                children.computeIfAbsent((Long) row[1], k -> new ArrayList<>()).add((Long) row[0]);
+            }
+        }
+        List<Long> ids = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(categoryId);
+        while (!stack.isEmpty()) {
+            Long current = stack.pop();
+            if (visited.add(current)) {
+                ids.add(current);
+                children.getOrDefault(current, Collections.emptyList()).forEach(stack::push);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 브랜드/카테고리를 함께 로딩한 상품 목록 (ids 순서 유지, 없는 상품은 제외)
+     */
+    public List<Product> findAllByIdsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Product> productMap = productRepository.findAllWithBrandAndCategoryByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Pageable withoutRelevanceSort(Pageable pageable) {
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .filter(order -> !"relevance".equals(order.getProperty()))
+                .collect(Collectors.toList()));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 
     public Page<Product> findProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
@@ -148,31 +265,27 @@ public class ProductService {
 
     @Transactional
     public void reduceStock(Long productId, Integer quantity) {
-        Product product = findById(productId);
-        
-        if (product.getStockQuantity() < quantity) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
-        }
-        
-        product.reduceStock(quantity);
-        productRepository.save(product);
+        StockReservation reservation = stockReservationService.reserve(Map.of(productId, quantity));
+        stockReservationService.commit(reservation);
         
-        cacheService.invalidateProductCache(productId);
+        log.info("상품 재고 차감: productId={}, quantity={}", productId, quantity);
+    }
+
+    /**
+     * 여러 상품 재고 일괄 차감 (상품 ID 순서로 한 batch, 캐시 무효화도 한 번)
+     */
+    @Transactional
+    public void reduceStocks(Map<Long, Integer> quantities) {
+        StockReservation reservation = stockReservationService.reserve(quantities);
+        stockReservationService.commit(reservation);
         
-        log.info("상품 재고 차감: productId={}, quantity={}, remainingStock={}", 
-                productId, quantity, product.getStockQuantity());
+        log.info("상품 재고 일괄 차감: items={}", reservation.getQuantities());
     }
 
     @Transactional
     public void increaseStock(Long productId, Integer quantity) {
-        Product product = findById(productId);
-        
-        product.increaseStock(quantity);
-        productRepository.save(product);
-        
-        cacheService.invalidateProductCache(productId);
+        stockReservationService.release(new StockReservation(Map.of(productId, quantity)));
         
-        log.info("상품 재고 복원: productId={}, quantity={}, currentStock={}", 
-                productId, quantity, product.getStockQuantity());
+        log.info("상품 재고 복원: productId={}, quantity={}", productId, quantity);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+package com.pooroom.domain.product.service;
+
+import com.pooroom.common.exception.BusinessException;
+import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.common.outbox.service.OutboxPublisher;
+import com.pooroom.common.service.CacheService;
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.event.ProductPriceChangedEvent;
+import com.pooroom.domain.product.repository.ProductRepository;
+import com.pooroom.domain.product.search.ProductIndexSynchronizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 상품 정보/가격 변경 서비스
+ * 판매가(할인 반영)가 바뀌면 같은 트랜잭션에 가격 변경 이벤트를 저장해, 커밋 이후 장바구니 단가 교체가 비동기로 실행되도록 처리
+ * (ProductService 는 아웃박스 핸들러 쪽에서 참조하므로 발행자 의존을 분리)
+ * 상품 정보/가격을 바꾸는 쓰기 경로(관리자 API 등)는 엔티티를 직접 변경하지 않고 이 서비스를 거쳐야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductUpdateService {
+
+    private final ProductRepository productRepository;
+    private final CacheService cacheService;
+    private final ProductIndexSynchronizer productIndexSynchronizer;
+    private final OutboxPublisher outboxPublisher;
+
+    @Transactional
+    public Product updateBasicInfo(Long productId, String name, String description, BigDecimal price) {
+        return update(productId, product -> product.updateBasicInfo(name, description, price));
+    }
+
+    @Transactional
+    public Product applyDiscount(Long productId, BigDecimal discountPrice) {
+        return update(productId, product -> product.applyDiscount(discountPrice));
+    }
+
+    @Transactional
+    public Product removeDiscount(Long productId) {
+        return update(productId, Product::removeDiscount);
+    }
+
+    private Product update(Long productId, Consumer<Product> change) {
+        // 잠금 없이 읽은 사본을 flush 하면 그 사이 커밋된 재고 차감을 덮어쓰게 됨
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        BigDecimal previousPrice = product.getEffectivePrice();
+
+        change.accept(product);
+
+        // 커밋 이후 캐시 무효화를 먼저 등록해 이벤트 처리 시점에는 새 가격이 조회되도록 함
+        refreshAfterCommit(productId);
+
+        BigDecimal effectivePrice = product.getEffectivePrice();
+        if (previousPrice.compareTo(effectivePrice) != 0) {
+            outboxPublisher.publish(ProductPriceChangedEvent.AGGREGATE_TYPE, productId, ProductPriceChangedEvent.TYPE,
+                    new ProductPriceChangedEvent(productId, previousPrice, effectivePrice));
+            log.info("상품 판매가 변경: productId={}, price={} -> {}", productId, previousPrice, effectivePrice);
+        }
+        return product;
+    }
+
+    private void refreshAfterCommit(Long productId) {
+        List<Long> ids = List.of(productId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheService.invalidateProductCaches(ids);
+            }
+        });
+        productIndexSynchronizer.refreshAfterCommit(ids);
+    }
+}
@@ -0,0 +1,124 @@
+package com.pooroom.domain.product.service;
+
+import com.pooroom.common.exception.BusinessException;
+import com.pooroom.common.exception.ErrorCode;
+import com.pooroom.common.service.CacheService;
+import com.pooroom.domain.product.dto.StockReservation;
+import com.pooroom.domain.product.entity.ProductStatus;
+import com.pooroom.domain.product.repository.ProductRepository;
+import com.pooroom.domain.product.repository.ProductStockRepository;
+import com.pooroom.domain.product.search.ProductIndexSynchronizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약 서비스
+ * 엔티티를 읽고 고쳐 쓰지 않고 상품별 조건부 UPDATE 로 차감해 동시 주문에서도 초과 판매가 없도록 처리
+ * reserve: 현재 트랜잭션에서 차감 (롤백 시 자동 취소) / commit: 커밋 후 캐시·색인 반영 / release: 차감분 복원
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockReservationService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final CacheService cacheService;
+    private final ProductIndexSynchronizer productIndexSynchronizer;
+
+    /**
+     * 상품 ID 오름차순의 조건부 UPDATE 를 한 batch 로 실행해 여러 주문이 같은 상품들을 잡을 때 데드락을 피하고,
+     * 하나라도 차감되지 않으면 예외를 던져 트랜잭션 전체를 롤백
+     */
+    @Transactional
+    public StockReservation reserve(Map<Long, Integer> quantities) {
+        StockReservation reservation = new StockReservation(quantities);
+        if (reservation.isEmpty()) {
+            return reservation;
+        }
+        reservation.getQuantities().values().forEach(this::validateQuantity);
+
+        // JPA 에 쌓인 변경을 먼저 반영한 뒤 같은 커넥션으로 JDBC batch 실행
+        productRepository.flush();
+        List<Long> failed = productStockRepository.decreaseAll(reservation.getQuantities(), LocalDateTime.now());
+        if (!failed.isEmpty()) {
+            throw new BusinessException(resolveFailure(failed.get(0)));
+        }
+
+        log.info("재고 예약: items={}", reservation.getQuantities());
+        return reservation;
+    }
+
+    /**
+     * 예약 확정 - 커밋 이후 상품 캐시 무효화와 검색 색인 갱신
+     */
+    public void commit(StockReservation reservation) {
+        if (reservation.isEmpty()) {
+            return;
+        }
+        refreshAfterCommit(reservation.getQuantities().keySet());
+    }
+
+    /**
+     * 예약(또는 확정된 주문) 재고 복원
+     */
+    @Transactional
+    public void release(StockReservation reservation) {
+        if (reservation.isEmpty()) {
+            return;
+        }
+        reservation.getQuantities().values().forEach(this::validateQuantity);
+
+        productRepository.flush();
+        List<Long> failed = productStockRepository.increaseAll(reservation.getQuantities(), LocalDateTime.now());
+        if (!failed.isEmpty()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        refreshAfterCommit(reservation.getQuantities().keySet());
+        log.info("재고 복원: items={}", reservation.getQuantities());
+    }
+
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 차감 실패 원인 구분 (실패 경로에서만 조회)
+     */
+    private ErrorCode resolveFailure(Long productId) {
+        return productRepository.findById(productId)
+                .map(product -> product.getStatus() == ProductStatus.ACTIVE
+                        ? ErrorCode.INSUFFICIENT_STOCK
+                        : ErrorCode.PRODUCT_NOT_AVAILABLE)
+                .orElse(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    private void refreshAfterCommit(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        // 커밋 전에 지우면 동시 조회가 이전 재고를 다시 캐시할 수 있으므로 커밋 이후 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheService.invalidateProductCaches(ids);
+                }
+            });
+        } else {
+            cacheService.invalidateProductCaches(ids);
+        }
+        productIndexSynchronizer.refreshAfterCommit(ids);
+    }
+}
@@ -3,15 +3,17 @@ package com.pooroom.domain.user.service;
 import com.pooroom.common.exception.BusinessException;
 import com.pooroom.common.exception.ErrorCode;
 import com.pooroom.domain.auth.dto.SignUpRequest;
+import com.pooroom.domain.auth.service.PasswordHashingService;
 import com.pooroom.domain.user.dto.UserResponse;
 import com.pooroom.domain.user.dto.UpdateUserRequest;
 import com.pooroom.domain.user.dto.ChangePasswordRequest;
 import com.pooroom.domain.user.entity.User;
 import com.pooroom.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -19,15 +21,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 비밀번호 해시(해시 실행기 대기 포함)는 트랜잭션 밖에서 수행해 대기 중 DB 커넥션을 점유하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signUp(SignUpRequest request) {
         validateSignUpRequest(request);
 
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
+
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .name(request.getName())
                 .nickname(request.getNickname())
                 .phoneNumber(request.getPhoneNumber())
@@ -35,7 +43,7 @@ public class UserService {
                 .gender(request.getGender())
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> userRepository.save(user));
         return UserResponse.from(savedUser);
     }
 
@@ -103,23 +111,36 @@ public class UserService {
         return UserResponse.from(updatedUser);
     }
 
-    @Transactional
+    /**
+     * 현재 비밀번호 확인과 새 비밀번호 해시는 트랜잭션 밖에서 수행하고, 변경만 짧은 트랜잭션으로 반영
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(String email, ChangePasswordRequest request) {
         if (!request.isPasswordMatch()) {
             throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
         }
 
-        User user = userRepository.findByEmail(email)
+        User found = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        String verifiedHash = found.getPassword();
+        if (!passwordHashingService.matches(request.getCurrentPassword(), verifiedHash)) {
             throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
         }
+        String newHash = passwordHashingService.encode(request.getNewPassword());
 
         // 새 비밀번호로 변경
-        user.changePassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(found.getId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            // 확인 이후 다른 요청이 비밀번호를 바꿨으면 확인한 현재 비밀번호가 더 이상 유효하지 않음
+            if (!verifiedHash.equals(user.getPassword())) {
+                throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
+            }
+            user.changePassword(newHash);
+            userRepository.save(user);
+        });
     }
 
     public User findByEmail(String email) {
@@ -0,0 +1,202 @@
+package com.pooroom.common.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pooroom.common.dto.CacheEnvelope;
+import com.pooroom.domain.product.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactRedisSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 2048;
+
+    private final RedisSerializer<Object> json = jsonSerializer();
+    private final CompactRedisSerializer serializer =
+            new CompactRedisSerializer(registry(1), json, COMPRESSION_THRESHOLD);
+
+    @Test
+    void roundTripsSmallValueWithoutCompression() {
+        CacheEnvelope<ProductResponse> envelope = new CacheEnvelope<>(product(1), 12, 1_700_000_000_000L);
+
+        byte[] bytes = serializer.serialize(envelope);
+
+        assertEquals(CompactRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(CompactRedisSerializer.FORMAT_VERSION, bytes[1]);
+        assertEquals(0, bytes[2] & 0x01);
+        assertTrue(bytes.length < COMPRESSION_THRESHOLD);
+
+        CacheEnvelope<?> restored = assertInstanceOf(CacheEnvelope.class, serializer.deserialize(bytes));
+        assertEquals(12, restored.getLoadMillis());
+        assertEquals(1_700_000_000_000L, restored.getExpiresAt());
+        assertProduct(product(1), assertInstanceOf(ProductResponse.class, restored.getValue()));
+    }
+
+    @Test
+    void roundTripsLargeValueWithLz4() {
+        List<ProductResponse> products = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            products.add(product(id));
+        }
+        CacheEnvelope<List<ProductResponse>> envelope = new CacheEnvelope<>(products, 30, 1_700_000_000_000L);
+
+        byte[] bytes = serializer.serialize(envelope);
+
+        assertEquals(CompactRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(0x01, bytes[2] & 0x01);
+        // 반복이 많은 목록은 JSON 보다 훨씬 작아야 함
+        assertTrue(bytes.length < json.serialize(envelope).length / 2);
+
+        CacheEnvelope<?> restored = assertInstanceOf(CacheEnvelope.class, serializer.deserialize(bytes));
+        List<?> restoredProducts = assertInstanceOf(List.class, restored.getValue());
+        assertEquals(products.size(), restoredProducts.size());
+        for (int i = 0; i < products.size(); i++) {
+            assertProduct(products.get(i), assertInstanceOf(ProductResponse.class, restoredProducts.get(i)));
+        }
+    }
+
+    @Test
+    void fallsBackToJsonForUnregisteredTypes() {
+        Map<String, Object> value = Map.of("name", "그린웨어", "count", 3);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertEquals('{', bytes[0]);
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void fallsBackToJsonWhenContainerHoldsUnregisteredType() {
+        CacheEnvelope<String> envelope = new CacheEnvelope<>("plain", 1, 2);
+
+        byte[] bytes = serializer.serialize(envelope);
+
+        assertEquals('{', bytes[0]);
+    }
+
+    @Test
+    void readsLegacyJsonValues() {
+        // 배포 전에 JSON 으로 저장된 값은 magic 이 없으므로 JSON 으로 읽음
+        byte[] legacy = json.serialize(Map.of("id", 7, "name", "오가닉 셔츠"));
+
+        Object restored = serializer.deserialize(legacy);
+
+        assertEquals(json.deserialize(legacy), restored);
+        assertEquals("오가닉 셔츠", ((Map<?, ?>) restored).get("name"));
+    }
+
+    @Test
+    void treatsEmptyValueAsMissing() {
+        assertNull(serializer.deserialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+    }
+
+    @Test
+    void rejectsCorruptHeaderAsCacheMiss() {
+        byte[] valid = serializer.serialize(new CacheEnvelope<>(product(1), 1, 2));
+
+        byte[] unknownFormat = valid.clone();
+        unknownFormat[1] = (byte) (CompactRedisSerializer.FORMAT_VERSION + 1);
+        assertNull(serializer.deserialize(unknownFormat));
+
+        byte[] unknownType = valid.clone();
+        unknownType[4] = 0x7F;
+        assertNull(serializer.deserialize(unknownType));
+
+        byte[] oversizedDescriptor = valid.clone();
+        oversizedDescriptor[3] = 100;
+        assertNull(serializer.deserialize(oversizedDescriptor));
+
+        byte[] noDescriptor = valid.clone();
+        noDescriptor[3] = 0;
+        assertNull(serializer.deserialize(noDescriptor));
+
+        assertNull(serializer.deserialize(Arrays.copyOf(valid, 5)));
+        assertNull(serializer.deserialize(new byte[]{CompactRedisSerializer.MAGIC}));
+    }
+
+    @Test
+    void rejectsCorruptCompressedPayloadAsCacheMiss() {
+        List<ProductResponse> products = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            products.add(product(id));
+        }
+        byte[] bytes = serializer.serialize(new CacheEnvelope<>(products, 1, 2));
+        assertEquals(0x01, bytes[2] & 0x01);
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertNull(serializer.deserialize(truncated));
+
+        // 원본 길이 필드(헤더 4 + 기술자 3 x 3 바이트 뒤)가 손상돼도 큰 배열을 할당하지 않고 미스 처리
+        byte[] hugeLength = bytes.clone();
+        hugeLength[13] = 0x7F;
+        assertNull(serializer.deserialize(hugeLength));
+
+        byte[] negativeLength = bytes.clone();
+        negativeLength[13] = (byte) 0xFF;
+        assertNull(serializer.deserialize(negativeLength));
+    }
+
+    @Test
+    void treatsTypeVersionMismatchAsCacheMiss() {
+        byte[] bytes = serializer.serialize(new CacheEnvelope<>(product(1), 1, 2));
+
+        CompactRedisSerializer upgraded = new CompactRedisSerializer(registry(2), json, COMPRESSION_THRESHOLD);
+
+        assertNull(upgraded.deserialize(bytes));
+    }
+
+    private static CacheTypeRegistry registry(int productVersion) {
+        return new CacheTypeRegistry()
+                .registerContainer(1, CacheEnvelope.class, 1, CacheEnvelope::getValue)
+                .registerContainer(2, List.class, 1, list -> list.isEmpty() ? null : list.get(0))
+                .register(10, ProductResponse.class, productVersion);
+    }
+
+    private static RedisSerializer<Object> jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private static void assertProduct(ProductResponse expected, ProductResponse actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(0, expected.getPrice().compareTo(actual.getPrice()));
+        assertEquals(0, expected.getEffectivePrice().compareTo(actual.getEffectivePrice()));
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getBrand().getName(), actual.getBrand().getName());
+        assertEquals(expected.getCategory().getId(), actual.getCategory().getId());
+    }
+
+    private static ProductResponse product(long id) {
+        return ProductResponse.builder()
+                .id(id)
+                .name("오가닉 코튼 오버핏 셔츠 " + id)
+                .description("지속 가능한 소재로 만든 데일리 셔츠입니다.")
+                .price(new BigDecimal("59000"))
+                .discountPrice(new BigDecimal("47200"))
+                .stockQuantity(120)
+                .sku("PR-SHIRT-" + id)
+                .isFeatured(true)
+                .mainImageUrl("https://cdn.pooroom.com/products/" + id + "/main.jpg")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(id))
+                .brand(new ProductResponse.BrandSummary(3L, "그린웨어", "https://cdn.pooroom.com/brands/3.png"))
+                .category(new ProductResponse.CategorySummary(12L, "셔츠", 2))
+                .effectivePrice(new BigDecimal("47200"))
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.pooroom.common.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pooroom.common.dto.CacheEnvelope;
+import com.pooroom.common.dto.PageResponse;
+import com.pooroom.domain.cart.dto.CartItemResponse;
+import com.pooroom.domain.cart.dto.CartResponse;
+import com.pooroom.domain.order.dto.OrderItemResponse;
+import com.pooroom.domain.order.dto.OrderResponse;
+import com.pooroom.domain.order.entity.OrderStatus;
+import com.pooroom.domain.order.entity.PaymentMethod;
+import com.pooroom.domain.order.entity.PaymentStatus;
+import com.pooroom.domain.product.dto.ProductResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 벤치마크 (기존 JSON vs 바이너리 코덱)
+ * 실행: mvn test-compile 후 main 실행 (테스트 실행 대상 아님)
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"cart", "orders", "product"})
+    private String payload;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> compact;
+    private Object value;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        json = new GenericJackson2JsonRedisSerializer(objectMapper);
+
+        CacheTypeRegistry registry = new CacheTypeRegistry()
+                .registerContainer(1, CacheEnvelope.class, 1, CacheEnvelope::getValue)
+                .registerContainer(3, PageResponse.class, 1, page -> page.getContent().isEmpty() ? null : page.getContent().get(0))
+                .register(10, ProductResponse.class, 1)
+                .register(20, CartResponse.class, 1)
+                .register(30, OrderResponse.class, 1);
+        compact = new CompactRedisSerializer(registry, json, 1024);
+
+        value = switch (payload) {
+            case "cart" -> new CacheEnvelope<>(cart(20), 12, System.currentTimeMillis() + 900_000);
+            case "orders" -> orderPage(20);
+            default -> new CacheEnvelope<>(product(1), 5, System.currentTimeMillis() + 3_600_000);
+        };
+        jsonBytes = json.serialize(value);
+        compactBytes = compact.serialize(value);
+        log.info("직렬화 크기 [{}]: json={} bytes, compact={} bytes ({}%)", payload, jsonBytes.length,
+                compactBytes.length, String.format("%.1f", 100.0 * compactBytes.length / jsonBytes.length));
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public void jsonDeserialize(Blackhole blackhole) {
+        blackhole.consume(json.deserialize(jsonBytes));
+    }
+
+    @Benchmark
+    public void compactDeserialize(Blackhole blackhole) {
+        blackhole.consume(compact.deserialize(compactBytes));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RedisSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static ProductResponse product(long id) {
+        return ProductResponse.builder()
+                .id(id)
+                .name("오가닉 코튼 오버핏 셔츠 " + id)
+                .description("지속 가능한 소재로 만든 데일리 셔츠입니다. 통기성이 좋고 세탁 후에도 형태가 유지됩니다.")
+                .price(new BigDecimal("59000"))
+                .discountPrice(new BigDecimal("47200"))
+                .stockQuantity(120)
+                .sku("PR-SHIRT-" + id)
+                .isFeatured(true)
+                .sustainabilityScore((byte) 8)
+                .materialInfo("오가닉 코튼 100%")
+                .sizeGuide("S/M/L/XL")
+                .careInstructions("30도 이하 단독 세탁")
+                .mainImageUrl("https://cdn.pooroom.com/products/" + id + "/main.jpg")
+                .createdAt(LocalDateTime.now().minusDays(30))
+                .updatedAt(LocalDateTime.now())
+                .brand(new ProductResponse.BrandSummary(3L, "그린웨어", "https://cdn.pooroom.com/brands/3.png"))
+                .category(new ProductResponse.CategorySummary(12L, "셔츠", 2))
+                .isOnSale(true)
+                .isInStock(true)
+                .effectivePrice(new BigDecimal("47200"))
+                .build();
+    }
+
+    private static CartResponse cart(int itemCount) {
+        List<CartItemResponse> items = new ArrayList<>();
+        for (long i = 1; i <= itemCount; i++) {
+            items.add(CartItemResponse.builder()
+                    .id(i)
+                    .cartId(1L)
+                    .product(CartItemResponse.ProductSummary.builder()
+                            .id(i)
+                            .name("오가닉 코튼 오버핏 셔츠 " + i)
+                            .currentPrice(new BigDecimal("59000"))
+                            .discountPrice(new BigDecimal("47200"))
+                            .stockQuantity(120)
+                            .mainImageUrl("https://cdn.pooroom.com/products/" + i + "/main.jpg")
+                            .isOnSale(true)
+                            .isInStock(true)
+                            .brand(new ProductResponse.BrandSummary(3L, "그린웨어", "https://cdn.pooroom.com/brands/3.png"))
+                            .category(new ProductResponse.CategorySummary(12L, "셔츠", 2))
+                            .build())
+                    .quantity(2)
+                    .unitPrice(new BigDecimal("47200"))
+                    .totalPrice(new BigDecimal("94400"))
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return CartResponse.builder()
+                .id(1L)
+                .userId(1L)
+                .items(items)
+                .totalItemCount(itemCount * 2)
+                .totalPrice(new BigDecimal("94400").multiply(BigDecimal.valueOf(itemCount)))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static PageResponse<OrderResponse> orderPage(int size) {
+        List<OrderResponse> orders = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            orders.add(OrderResponse.builder()
+                    .id(i)
+                    .userId(1L)
+                    .orderNumber("ORD20250101" + String.format("%06d", i))
+                    .orderStatus(OrderStatus.PAID)
+                    .paymentStatus(PaymentStatus.PAID)
+                    .paymentMethod(PaymentMethod.CARD)
+                    .shippingInfo(new OrderResponse.ShippingInfoDto("홍길동", "010-1234-5678", "06236",
+                            "서울특별시 강남구 테헤란로 123", "4층"))
+                    .amountInfo(new OrderResponse.OrderAmountDto(new BigDecimal("94400"), new BigDecimal("3000"),
+                            BigDecimal.ZERO, new BigDecimal("97400"), 2))
+                    .orderItems(List.of(OrderItemResponse.builder()
+                            .id(i)
+                            .orderId(i)
+                            .productId(i)
+                            .productName("오가닉 코튼 오버핏 셔츠")
+                            .brandName("그린웨어")
+                            .categoryName("셔츠")
+                            .productSku("PR-SHIRT-" + i)
+                            .quantity(2)
+                            .unitPrice(new BigDecimal("47200"))
+                            .totalPrice(new BigDecimal("94400"))
+                            .createdAt(LocalDateTime.now())
+                            .build()))
+                    .orderedAt(LocalDateTime.now())
+                    .paidAt(LocalDateTime.now())
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return new PageResponse<>(orders, 0, size, 200, 10, true, false, true, false);
+    }
+}
@@ -0,0 +1,71 @@
+package com.pooroom.common.util;
+
+import com.pooroom.common.dto.KeysetCursor;
+import com.pooroom.common.exception.BusinessException;
+import com.pooroom.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsCursor() {
+        KeysetCursor cursor = new KeysetCursor(1, LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_000_000), 987654321L);
+
+        String encoded = CursorCodec.encode(cursor);
+        KeysetCursor decoded = CursorCodec.decode(encoded);
+
+        // URL 에 그대로 붙일 수 있는 형식
+        assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="));
+        assertEquals(cursor.getGroup(), decoded.getGroup());
+        assertEquals(cursor.getSortKey(), decoded.getSortKey());
+        assertEquals(cursor.getId(), decoded.getId());
+    }
+
+    @Test
+    void treatsMissingCursorAsFirstPage() {
+        assertNull(CursorCodec.decode(null));
+        assertNull(CursorCodec.decode(""));
+        assertNull(CursorCodec.decode("  "));
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        assertInvalid(raw("v2|0|2024-03-15T10:30:45|1"));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertInvalid("not base64 !!");
+        assertInvalid(raw("v1|0|2024-03-15T10:30:45"));
+        assertInvalid(raw("v1|0|2024-03-15T10:30:45|1|extra"));
+        assertInvalid(raw("v1|x|2024-03-15T10:30:45|1"));
+        assertInvalid(raw("v1|0|yesterday|1"));
+        assertInvalid(raw("v1|0|2024-03-15T10:30:45|abc"));
+    }
+
+    @Test
+    void clampsPageSize() {
+        assertEquals(1, CursorCodec.pageSize(0));
+        assertEquals(1, CursorCodec.pageSize(-5));
+        assertEquals(20, CursorCodec.pageSize(20));
+        assertEquals(CursorCodec.MAX_PAGE_SIZE, CursorCodec.pageSize(100_000));
+    }
+
+    private static void assertInvalid(String cursor) {
+        BusinessException e = assertThrows(BusinessException.class, () -> CursorCodec.decode(cursor));
+        assertEquals(ErrorCode.INVALID_CURSOR, e.getErrorCode());
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
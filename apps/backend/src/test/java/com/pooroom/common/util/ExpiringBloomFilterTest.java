@@ -0,0 +1,71 @@
+package com.pooroom.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpiringBloomFilterTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long NOW = 1_000 * HOUR + 10 * 60_000L;
+
+    private final ExpiringBloomFilter filter = new ExpiringBloomFilter(HOUR, 1_000, 0.001);
+
+    @Test
+    void findsValuesAcrossPartitionsUntilTheyExpire() {
+        filter.put("short", NOW + 5 * 60_000L, NOW);
+        filter.put("long", NOW + 3 * HOUR, NOW);
+
+        assertEquals(2, filter.partitionCount());
+        assertTrue(filter.mightContain("short", NOW));
+        assertTrue(filter.mightContain("long", NOW));
+        assertFalse(filter.mightContain("other", NOW));
+    }
+
+    @Test
+    void ignoresPartitionsThatEndedEvenBeforeRotation() {
+        filter.put("short", NOW + 5 * 60_000L, NOW);
+        filter.put("long", NOW + 3 * HOUR, NOW);
+
+        long later = NOW + HOUR;
+        assertFalse(filter.mightContain("short", later));
+        assertTrue(filter.mightContain("long", later));
+    }
+
+    @Test
+    void rotationDropsOnlyEndedPartitions() {
+        filter.put("current", NOW + 5 * 60_000L, NOW);
+        filter.put("next", NOW + HOUR, NOW);
+        filter.put("later", NOW + 3 * HOUR, NOW);
+
+        filter.rotate(NOW);
+        assertEquals(3, filter.partitionCount());
+
+        long nextHour = NOW + HOUR;
+        filter.rotate(nextHour);
+        assertEquals(2, filter.partitionCount());
+        assertTrue(filter.mightContain("next", nextHour));
+        assertTrue(filter.mightContain("later", nextHour));
+
+        filter.rotate(NOW + 4 * HOUR);
+        assertEquals(0, filter.partitionCount());
+    }
+
+    @Test
+    void skipsValuesThatAlreadyExpired() {
+        filter.put("expired", NOW - HOUR, NOW);
+
+        assertEquals(0, filter.partitionCount());
+        assertFalse(filter.mightContain("expired", NOW));
+    }
+
+    @Test
+    void keepsValueExpiringLaterInCurrentPartition() {
+        // 만료 시각이 지났어도 현재 구간 안이면 구간이 끝날 때까지 유지 (Redis 확인으로 확정)
+        filter.put("edge", NOW - 60_000L, NOW);
+
+        assertTrue(filter.mightContain("edge", NOW));
+    }
+}
@@ -0,0 +1,60 @@
+package com.pooroom.common.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문번호/ID 생성 처리량 벤치마크
+ * - snowflakeId / snowflakeOrderNumber: CAS 기반 생성기 (스레드 수를 바꿔 경합 확인)
+ * - legacyOrderNumber: 기존 방식 (currentTimeMillis 뒤 8자리 + UUID 앞 8자리)
+ * 실행: mvn test-compile 후 main 실행 (테스트 실행 대상 아님)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private SnowflakeIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new SnowflakeIdGenerator(1, 5000);
+    }
+
+    @Benchmark
+    public long snowflakeId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long snowflakeIdContended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public String snowflakeOrderNumber() {
+        return generator.nextOrderNumber();
+    }
+
+    @Benchmark
+    public String legacyOrderNumber() {
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        String uuid = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return "ORD" + timestamp.substring(timestamp.length() - 8) + uuid;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SnowflakeIdGeneratorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+package com.pooroom.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void generatesUniqueIncreasingIdsAcrossThreads() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, 5000);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threads * perThread);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long previous = -1;
+                    for (int i = 0; i < perThread; i++) {
+                        long id = generator.nextId();
+                        // 한 스레드 안에서는 항상 증가
+                        assertTrue(id > previous);
+                        assertEquals(7, SnowflakeIdGenerator.nodeIdOf(id));
+                        ids.add(id);
+                        previous = id;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void keepsIncreasingWhenClockMovesBackward() {
+        AtomicLong now = new AtomicLong(SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(
+                1, SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS, 5000, now::get);
+
+        long before = generator.nextId();
+        now.addAndGet(-3000);
+        long after = generator.nextId();
+
+        assertTrue(after > before);
+    }
+
+    @Test
+    void waitsForNextMillisecondWhenSequenceIsExhausted() {
+        long base = SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS + 10_000;
+        AtomicLong calls = new AtomicLong();
+        // 순번(4096개)을 다 쓴 뒤에야 시계가 다음 ms 로 넘어감
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(
+                1, SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS, 5000, () -> calls.incrementAndGet() > 5000 ? base + 1 : base);
+
+        long previous = -1;
+        for (int i = 0; i < 4096; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            assertEquals(base, generator.timestampOf(id));
+            previous = id;
+        }
+        long next = generator.nextId();
+
+        assertTrue(next > previous);
+        assertEquals(base + 1, generator.timestampOf(next));
+    }
+
+    @Test
+    void rejectsLargeClockRollback() {
+        AtomicLong now = new AtomicLong(SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(
+                1, SnowflakeIdGenerator.DEFAULT_EPOCH_MILLIS, 5000, now::get);
+
+        generator.nextId();
+        now.addAndGet(-6000);
+
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    void orderNumberHasPrefixAndFitsColumn() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5000);
+
+        String orderNumber = generator.nextOrderNumber();
+
+        assertTrue(orderNumber.startsWith("ORD"));
+        assertTrue(orderNumber.length() <= 50);
+        assertTrue(generator.nextPaymentKey().startsWith("PAY"));
+    }
+
+    @Test
+    void orderNumbersSortAsStringsAcrossDigitCountChange() {
+        // 기준 시각 직후(짧은 ID)와 먼 미래(19자리 ID)
+        AtomicLong now = new AtomicLong(1);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 0, 5000, now::get);
+
+        String early = generator.nextOrderNumber();
+        now.set(2_000_000_000_000L);
+        String late = generator.nextOrderNumber();
+
+        assertEquals(22, early.length());
+        assertEquals(22, late.length());
+        assertTrue(early.compareTo(late) < 0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.pooroom.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 CPU 비용 벤치마크
+ * - threeParses: 기존 필터 방식 (validateToken + getEmailFromToken + getRoleFromToken, 서명 검증 3회)
+ * - singleParse: parseVerified 캐시 미스 (서명 검증 1회)
+ * - cachedParse: parseVerified 캐시 히트 (SHA-256 digest + 캐시 조회)
+ * 실행: mvn test-compile 후 main 실행 (테스트 실행 대상 아님)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil nonCachingJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingJwtUtil = new JwtUtil(SECRET, 3600, 604800, 50_000);
+        // 캐시 크기 0: 매번 파싱/서명 검증
+        nonCachingJwtUtil = new JwtUtil(SECRET, 3600, 604800, 0);
+        token = cachingJwtUtil.generateAccessToken("user@pooroom.com", "USER");
+        cachingJwtUtil.parseVerified(token);
+    }
+
+    @Benchmark
+    public void threeParses(Blackhole blackhole) {
+        if (nonCachingJwtUtil.validateToken(token)) {
+            blackhole.consume(nonCachingJwtUtil.getEmailFromToken(token));
+            blackhole.consume(nonCachingJwtUtil.getRoleFromToken(token));
+        }
+    }
+
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return nonCachingJwtUtil.parseVerified(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedParse() {
+        return cachingJwtUtil.parseVerified(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.pooroom.domain.cart.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CartResponseTest {
+
+    private static final Long USER_ID = 7L;
+
+    @Test
+    void ofSumsQuantitiesAndPrices() {
+        CartResponse cart = cart(3, item(1L, 2, "1000"), item(2L, 1, "2500.50"));
+
+        assertEquals(3, cart.getTotalItemCount());
+        assertPrice("4500.50", cart.getTotalPrice());
+        assertEquals(3, cart.getVersion());
+    }
+
+    @Test
+    void withQuantityAdjustsTotalsByDifference() {
+        CartResponse cart = cart(1, item(1L, 2, "1000"), item(2L, 1, "2500"));
+
+        CartResponse patched = cart.withQuantity(1L, 5);
+
+        assertEquals(5, patched.getItems().get(0).getQuantity());
+        assertPrice("5000", patched.getItems().get(0).getTotalPrice());
+        assertEquals(6, patched.getTotalItemCount());
+        assertPrice("7500", patched.getTotalPrice());
+        // 순서와 다른 상품은 유지
+        assertEquals(2L, patched.getItems().get(1).getId());
+    }
+
+    @Test
+    void withQuantityReturnsNullForMissingLine() {
+        CartResponse cart = cart(1, item(1L, 2, "1000"));
+
+        assertNull(cart.withQuantity(9L, 1));
+    }
+
+    @Test
+    void withItemAppendsAndAddsTotals() {
+        CartResponse cart = cart(1, item(1L, 2, "1000"));
+
+        CartResponse patched = cart.withItem(item(2L, 3, "300"));
+
+        assertEquals(List.of(1L, 2L), patched.getItems().stream().map(CartItemResponse::getId).toList());
+        assertEquals(5, patched.getTotalItemCount());
+        assertPrice("2900", patched.getTotalPrice());
+    }
+
+    @Test
+    void withItemReturnsNullForExistingLine() {
+        CartResponse cart = cart(1, item(1L, 2, "1000"));
+
+        assertNull(cart.withItem(item(1L, 1, "1000")));
+    }
+
+    @Test
+    void withoutItemsSubtractsOnlyPresentLines() {
+        CartResponse cart = cart(1, item(1L, 2, "1000"), item(2L, 1, "2500"), item(3L, 4, "100"));
+
+        CartResponse patched = cart.withoutItems(List.of(2L, 3L, 9L));
+
+        assertEquals(List.of(1L), patched.getItems().stream().map(CartItemResponse::getId).toList());
+        assertEquals(2, patched.getTotalItemCount());
+        assertPrice("2000", patched.getTotalPrice());
+    }
+
+    @Test
+    void patchesKeepVersionUntilAtVersion() {
+        CartResponse cart = cart(4, item(1L, 2, "1000"));
+
+        CartResponse patched = cart.withQuantity(1L, 3);
+        CartResponse versioned = patched.atVersion(5);
+
+        assertEquals(4, patched.getVersion());
+        assertEquals(5, versioned.getVersion());
+        assertEquals(3, versioned.getTotalItemCount());
+        assertPrice("3000", versioned.getTotalPrice());
+    }
+
+    private static CartResponse cart(long version, CartItemResponse... items) {
+        return CartResponse.of(USER_ID, List.of(items), version);
+    }
+
+    private static CartItemResponse item(Long productId, int quantity, String unitPrice) {
+        return CartItemResponse.of(new CartLine(productId, quantity, new BigDecimal(unitPrice), Instant.EPOCH),
+                CartItemResponse.ProductSummary.builder().id(productId).build());
+    }
+
+    private static void assertPrice(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), () -> expected + " != " + actual);
+    }
+}
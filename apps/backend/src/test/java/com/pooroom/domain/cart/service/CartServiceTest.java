@@ -0,0 +1,198 @@
+package com.pooroom.domain.cart.service;
+
+import com.pooroom.common.service.CacheService;
+import com.pooroom.domain.cart.dto.AddToCartRequest;
+import com.pooroom.domain.cart.dto.CartItemResponse;
+import com.pooroom.domain.cart.dto.CartLine;
+import com.pooroom.domain.cart.dto.CartMutation;
+import com.pooroom.domain.cart.dto.CartResponse;
+import com.pooroom.domain.cart.dto.CartSnapshot;
+import com.pooroom.domain.cart.dto.UpdateCartItemRequest;
+import com.pooroom.domain.product.dto.ProductSnapshot;
+import com.pooroom.domain.product.entity.Brand;
+import com.pooroom.domain.product.entity.Category;
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.entity.ProductStatus;
+import com.pooroom.domain.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캐시된 장바구니 응답 patch 의 버전 규칙 (바로 이전 버전일 때만 반영, 아니면 무효화 후 재구성)
+ */
+class CartServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long PRODUCT_ID = 1L;
+    private static final String CART_KEY = "cart:user:" + USER_ID;
+
+    private final CartStore cartStore = mock(CartStore.class);
+    private final ProductService productService = mock(ProductService.class);
+    private final CacheService cacheService = mock(CacheService.class);
+
+    private final CartService cartService = new CartService(cartStore, productService, cacheService);
+
+    // CacheService 의 응답 캐시 대역
+    private CartResponse cached;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(cacheService.update(eq(CART_KEY), eq(CartResponse.class), any())).thenAnswer(invocation -> {
+            if (cached == null) {
+                return null;
+            }
+            CartResponse next = ((UnaryOperator<CartResponse>) invocation.getArgument(2)).apply(cached);
+            if (next != null) {
+                cached = next;
+            }
+            return next;
+        });
+        when(cacheService.getOrLoad(eq(CART_KEY), eq(CartResponse.class), any(Duration.class), any(Supplier.class),
+                any(String[].class))).thenAnswer(invocation -> {
+            if (cached == null) {
+                cached = ((Supplier<CartResponse>) invocation.getArgument(3)).get();
+            }
+            return cached;
+        });
+        doAnswer(invocation -> cached = null).when(cacheService).invalidateTag(anyString());
+
+        when(productService.findSnapshot(PRODUCT_ID)).thenReturn(
+                new ProductSnapshot(PRODUCT_ID, new BigDecimal("1000"), null, 100, ProductStatus.ACTIVE));
+    }
+
+    @Test
+    void nextVersionIsPatchedInPlace() {
+        cached = cart(5, 2);
+        when(cartStore.updateQuantity(USER_ID, PRODUCT_ID, 3, 100)).thenReturn(new CartMutation(3, 6));
+
+        CartResponse result = cartService.updateCartItem(USER_ID, PRODUCT_ID, quantity(3));
+
+        assertEquals(6, result.getVersion());
+        assertEquals(3, result.getTotalItemCount());
+        assertEquals(0, new BigDecimal("3000").compareTo(result.getTotalPrice()));
+        verify(cacheService, never()).invalidateTag(anyString());
+        verify(cartStore, never()).getSnapshot(any());
+    }
+
+    @Test
+    void addPatchesWithAbsoluteTotalFromStore() {
+        cached = cart(5, 2);
+        // 저장소 합계 수량을 그대로 사용 (캐시 수량 + 요청 수량이 아님)
+        when(cartStore.add(eq(USER_ID), eq(PRODUCT_ID), eq(1), any(), anyInt())).thenReturn(new CartMutation(4, 6));
+
+        CartResponse result = cartService.addToCart(USER_ID, new AddToCartRequest(PRODUCT_ID, 1));
+
+        assertEquals(4, result.getItems().get(0).getQuantity());
+        assertEquals(4, result.getTotalItemCount());
+        assertEquals(6, result.getVersion());
+    }
+
+    @Test
+    void versionGapInvalidatesAndReloads() {
+        cached = cart(5, 2);
+        // 버전 6 변경이 아직 반영되지 않음
+        when(cartStore.updateQuantity(USER_ID, PRODUCT_ID, 3, 100)).thenReturn(new CartMutation(3, 7));
+        CartSnapshot reloaded = snapshot(7, 3);
+        when(cartStore.getSnapshot(USER_ID)).thenReturn(reloaded);
+        when(cartStore.getVersion(USER_ID)).thenReturn(7L);
+        givenProductsLoadable();
+
+        CartResponse result = cartService.updateCartItem(USER_ID, PRODUCT_ID, quantity(3));
+
+        verify(cacheService).invalidateTag("user:" + USER_ID + ":cart");
+        assertEquals(7, result.getVersion());
+        assertSame(cached, result);
+    }
+
+    @Test
+    void olderVersionThanCacheInvalidates() {
+        // 더 나중 변경이 이미 반영된 캐시에 이전 변경이 늦게 도착
+        cached = cart(8, 5);
+        when(cartStore.updateQuantity(USER_ID, PRODUCT_ID, 3, 100)).thenReturn(new CartMutation(3, 7));
+        when(cartStore.getSnapshot(USER_ID)).thenReturn(snapshot(8, 5));
+        when(cartStore.getVersion(USER_ID)).thenReturn(8L);
+        givenProductsLoadable();
+
+        CartResponse result = cartService.updateCartItem(USER_ID, PRODUCT_ID, quantity(3));
+
+        verify(cacheService).invalidateTag("user:" + USER_ID + ":cart");
+        assertEquals(8, result.getVersion());
+        assertEquals(5, result.getTotalItemCount());
+    }
+
+    @Test
+    void missingLineFallsBackToReload() {
+        cached = CartResponse.of(USER_ID, List.of(), 5);
+        when(cartStore.updateQuantity(USER_ID, PRODUCT_ID, 3, 100)).thenReturn(new CartMutation(3, 6));
+        when(cartStore.getSnapshot(USER_ID)).thenReturn(snapshot(6, 3));
+        when(cartStore.getVersion(USER_ID)).thenReturn(6L);
+        givenProductsLoadable();
+
+        CartResponse result = cartService.updateCartItem(USER_ID, PRODUCT_ID, quantity(3));
+
+        verify(cacheService).invalidateTag("user:" + USER_ID + ":cart");
+        assertEquals(6, result.getVersion());
+        assertEquals(3, result.getTotalItemCount());
+    }
+
+    @Test
+    void staleCachedCartIsReplacedOnRead() {
+        cached = cart(5, 2);
+        when(cartStore.getVersion(USER_ID)).thenReturn(6L);
+        when(cartStore.getSnapshot(USER_ID)).thenReturn(snapshot(6, 4));
+        givenProductsLoadable();
+
+        CartResponse result = cartService.getCartByUserId(USER_ID);
+
+        assertEquals(6, result.getVersion());
+        assertEquals(4, result.getTotalItemCount());
+    }
+
+    private void givenProductsLoadable() {
+        when(productService.findAllByIdsInOrder(List.of(PRODUCT_ID))).thenReturn(List.of(
+                Product.builder()
+                        .id(PRODUCT_ID)
+                        .name("상품")
+                        .brand(Brand.builder().id(1L).name("브랜드").build())
+                        .category(Category.builder().id(1L).name("카테고리").build())
+                        .price(new BigDecimal("1000"))
+                        .build()));
+    }
+
+    private static CartResponse cart(long version, int quantity) {
+        return CartResponse.of(USER_ID, List.of(CartItemResponse.of(line(quantity),
+                CartItemResponse.ProductSummary.builder().id(PRODUCT_ID).build())), version);
+    }
+
+    private static CartSnapshot snapshot(long version, int quantity) {
+        return new CartSnapshot(version, List.of(line(quantity)));
+    }
+
+    private static CartLine line(int quantity) {
+        return new CartLine(PRODUCT_ID, quantity, new BigDecimal("1000"), Instant.EPOCH);
+    }
+
+    private static UpdateCartItemRequest quantity(int quantity) {
+        return new UpdateCartItemRequest(quantity);
+    }
+}
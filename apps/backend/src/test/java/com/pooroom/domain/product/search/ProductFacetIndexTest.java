@@ -0,0 +1,124 @@
+package com.pooroom.domain.product.search;
+
+import com.pooroom.domain.product.dto.ProductFacetResponse;
+import com.pooroom.domain.product.dto.ProductSearchRequest;
+import com.pooroom.domain.product.entity.Category;
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.entity.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProductFacetIndexTest {
+
+    private final ProductFacetIndex index = new ProductFacetIndex();
+
+    @BeforeEach
+    void setUp() {
+        // 카테고리 트리: 1 -> 2 -> 3, 4 는 별도 루트
+        Map<Long, Long> categoryParents = new HashMap<>();
+        categoryParents.put(1L, null);
+        categoryParents.put(2L, 1L);
+        categoryParents.put(3L, 2L);
+        categoryParents.put(4L, null);
+
+        index.rebuild(List.of(
+                product(1L, "0", 1L),
+                product(2L, "9999", 2L),
+                product(3L, "10000", 3L),
+                product(4L, "29999.99", 4L),
+                product(5L, "30000", 1L),
+                product(6L, "200000", 2L),
+                product(7L, "500000", 3L),
+                product(8L, "10000", 4L, ProductStatus.INACTIVE)), categoryParents);
+    }
+
+    @Test
+    void includesBothEndsOfPriceRangeLikeBetween() {
+        assertEquals(List.of(3L, 4L, 5L), filterByPrice("10000", "30000"));
+    }
+
+    @Test
+    void excludesPricesJustOutsideRange() {
+        assertEquals(List.of(4L, 5L), filterByPrice("10000.01", "30000"));
+        assertEquals(List.of(3L, 4L), filterByPrice("10000", "29999.99"));
+    }
+
+    @Test
+    void appliesOpenEndedPriceBounds() {
+        assertEquals(List.of(1L, 2L), filterByPrice(null, "9999.99"));
+        assertEquals(List.of(6L, 7L), filterByPrice("200000", null));
+        assertEquals(List.of(1L), filterByPrice(null, "0"));
+    }
+
+    @Test
+    void countsPriceBucketsWithLowerBoundInclusive() {
+        List<ProductFacetResponse.PriceRangeCount> buckets = index.filter(
+                ProductSearchRequest.builder().build(), PageRequest.of(0, 20)).getFacets().getPriceRanges();
+
+        assertEquals(6, buckets.size());
+        assertEquals(List.of(2L, 2L, 1L, 0L, 0L, 2L),
+                buckets.stream().map(ProductFacetResponse.PriceRangeCount::getCount).toList());
+        assertEquals(0, new BigDecimal("200000").compareTo(buckets.get(5).getMinPrice()));
+        assertNull(buckets.get(5).getMaxPrice());
+    }
+
+    @Test
+    void priceFacetCountsIgnoreSelectedPriceRange() {
+        ProductFacetResult result = index.filter(ProductSearchRequest.builder()
+                .minPrice(new BigDecimal("10000"))
+                .maxPrice(new BigDecimal("10000"))
+                .build(), PageRequest.of(0, 20));
+
+        // 판매중단 상품(8번)은 제외
+        assertEquals(1, result.getTotalElements());
+        assertEquals(2, result.getFacets().getPriceRanges().get(1).getCount());
+    }
+
+    @Test
+    void categoryFilterIncludesDescendants() {
+        assertEquals(List.of(1L, 2L, 3L, 5L, 6L, 7L), filterByCategory(1L));
+        assertEquals(List.of(2L, 3L, 6L, 7L), filterByCategory(2L));
+        assertEquals(List.of(4L), filterByCategory(4L));
+    }
+
+    private List<Long> filterByPrice(String minPrice, String maxPrice) {
+        return filter(ProductSearchRequest.builder()
+                .minPrice(minPrice != null ? new BigDecimal(minPrice) : null)
+                .maxPrice(maxPrice != null ? new BigDecimal(maxPrice) : null)
+                .build());
+    }
+
+    private List<Long> filterByCategory(Long categoryId) {
+        return filter(ProductSearchRequest.builder().categoryId(categoryId).build());
+    }
+
+    private List<Long> filter(ProductSearchRequest request) {
+        return index.filter(request, PageRequest.of(0, 20, Sort.by("price"))).getProductIds();
+    }
+
+    private static Product product(Long id, String price, Long categoryId) {
+        return product(id, price, categoryId, ProductStatus.ACTIVE);
+    }
+
+    private static Product product(Long id, String price, Long categoryId, ProductStatus status) {
+        return Product.builder()
+                .id(id)
+                .name("상품 " + id)
+                .category(Category.builder().id(categoryId).build())
+                .price(new BigDecimal(price))
+                .status(status)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id))
+                .build();
+    }
+}
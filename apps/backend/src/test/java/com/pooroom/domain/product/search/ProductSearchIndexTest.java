@@ -0,0 +1,129 @@
+package com.pooroom.domain.product.search;
+
+import com.pooroom.domain.product.entity.Brand;
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.entity.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(products());
+    }
+
+    @Test
+    void findsKoreanSubstringInsideWord() {
+        assertEquals(List.of(1L), search("코백"));
+        assertEquals(List.of(1L), search("에코백"));
+    }
+
+    @Test
+    void dropsCandidatesWhoseGramsMatchButSubstringDoesNot() {
+        // "가방끈" 의 gram(가방, 방끈)은 3번 상품에 모두 있지만 이어진 부분 문자열은 없음
+        assertEquals(List.of(), search("가방끈"));
+        assertEquals(List.of(3L), search("방끈"));
+    }
+
+    @Test
+    void matchesSingleCharacterQuery() {
+        List<Long> ids = search("끈");
+        assertEquals(List.of(3L), ids);
+
+        List<Long> bags = search("백");
+        assertEquals(List.of(1L), bags);
+    }
+
+    @Test
+    void matchesWholeMixedScriptQueryAsSubstring() {
+        assertEquals(List.of(4L), search("NIKE 에어"));
+        assertEquals(List.of(5L), search("LG전자"));
+        assertEquals(List.of(2L), search("코튼 티셔츠"));
+    }
+
+    @Test
+    void doesNotMatchWordsSpreadAcrossPositionsOrFields() {
+        // LIKE '%keyword%' 와 같이 검색어 전체가 이어져 있어야 함
+        assertEquals(List.of(), search("nike 운동화"));
+        assertEquals(List.of(), search("patagonia 티셔츠"));
+    }
+
+    @Test
+    void ranksNameMatchesAboveBrandAndDescriptionMatches() {
+        // 3번은 상품명과 설명, 1번은 설명에만 "가방" 포함
+        assertEquals(List.of(3L, 1L), search("가방"));
+    }
+
+    @Test
+    void excludesInactiveProductsAndReflectsSingleUpdates() {
+        assertTrue(search("단종").isEmpty());
+
+        index.index(product(6L, "재입고 에코백", "판매 재개", "그린웨이"));
+        assertEquals(List.of(6L), search("재입고"));
+
+        index.remove(6L);
+        assertTrue(search("재입고").isEmpty());
+    }
+
+    @Test
+    void pagesMatchesAndReportsTotal() {
+        // 판매중단 상품(6번)은 브랜드가 같아도 제외
+        ProductSearchResult result = index.search("그린웨이", PageRequest.of(1, 1));
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getProductIds().size());
+    }
+
+    @Test
+    void keepsChangesIndexedWhileRebuildIsInProgress() {
+        index.beginRebuild();
+        // 재구성용 목록을 읽은 뒤 1번 상품이 판매중단됨
+        List<Product> snapshot = products();
+        index.remove(1L);
+        index.index(product(7L, "신상 에코백", null, "그린웨이"));
+
+        index.rebuild(snapshot);
+
+        assertEquals(List.of(7L), search("에코백"));
+    }
+
+    private List<Long> search(String keyword) {
+        return index.search(keyword, PageRequest.of(0, 20)).getProductIds();
+    }
+
+    private static List<Product> products() {
+        return List.of(
+                product(1L, "리사이클 에코백", "친환경 소재 가방", "그린웨이"),
+                product(2L, "오가닉 코튼 티셔츠", "유기농 면 100%", "Patagonia"),
+                product(3L, "방끈 가방", "가방 끈 교체용", "그린웨이"),
+                product(4L, "Nike 에어 운동화", "러닝화", "나이키"),
+                product(5L, "lg전자 휴대용 선풍기", null, "LG"),
+                product(6L, "단종 에코백", "판매 종료", "그린웨이", ProductStatus.INACTIVE));
+    }
+
+    private static Product product(Long id, String name, String description, String brandName) {
+        return product(id, name, description, brandName, ProductStatus.ACTIVE);
+    }
+
+    private static Product product(Long id, String name, String description, String brandName, ProductStatus status) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .brand(Brand.builder().name(brandName).build())
+                .price(BigDecimal.valueOf(10_000))
+                .status(status)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id))
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.pooroom.domain.product.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductTokenizerTest {
+
+    @Test
+    void normalizesDecomposedHangulAndCase() {
+        // 자모 분리(NFD) 입력도 완성형과 같은 문자열로 정규화
+        String decomposed = Normalizer.normalize("에코백 ECO", Normalizer.Form.NFD);
+        assertEquals("에코백 eco", ProductTokenizer.normalize(decomposed));
+        assertEquals("", ProductTokenizer.normalize("   "));
+        assertEquals("", ProductTokenizer.normalize(null));
+    }
+
+    @Test
+    void splitsWordsOnSymbolsAndSpacesKeepingMixedScriptTogether() {
+        List<String> words = ProductTokenizer.words(ProductTokenizer.normalize("Nike 운동화/에어맥스-90 lg전자"));
+        assertEquals(List.of("nike", "운동화", "에어맥스", "90", "lg전자"), words);
+    }
+
+    @Test
+    void indexGramsDoNotCrossWordBoundaries() {
+        Set<String> grams = ProductTokenizer.indexGrams("에코 백");
+        assertEquals(Set.of("에", "코", "에코", "백"), grams);
+        assertFalse(grams.contains("코백"));
+    }
+
+    @Test
+    void indexGramsCoverMixedScriptWords() {
+        Set<String> grams = ProductTokenizer.indexGrams("lg전자");
+        assertTrue(grams.containsAll(Set.of("l", "g", "전", "자", "lg", "g전", "전자")));
+    }
+
+    @Test
+    void queryGramsUseBigramsOrSingleCharacter() {
+        assertEquals(Set.of("백"), ProductTokenizer.queryGrams("백"));
+        assertEquals(Set.of("에코"), ProductTokenizer.queryGrams("에코"));
+        assertEquals(Set.of("에코", "코백"), ProductTokenizer.queryGrams("에코백"));
+        assertEquals(Set.of("g전", "전자", "lg"), ProductTokenizer.queryGrams("lg전자"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.pooroom.domain.product.service;
+
+import com.pooroom.common.exception.BusinessException;
+import com.pooroom.common.outbox.service.OutboxPublisher;
+import com.pooroom.common.service.CacheService;
+import com.pooroom.domain.product.entity.Product;
+import com.pooroom.domain.product.event.ProductPriceChangedEvent;
+import com.pooroom.domain.product.repository.ProductRepository;
+import com.pooroom.domain.product.search.ProductIndexSynchronizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductUpdateServiceTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final CacheService cacheService = mock(CacheService.class);
+    private final ProductIndexSynchronizer productIndexSynchronizer = mock(ProductIndexSynchronizer.class);
+    private final OutboxPublisher outboxPublisher = mock(OutboxPublisher.class);
+
+    private final ProductUpdateService productUpdateService = new ProductUpdateService(
+            productRepository, cacheService, productIndexSynchronizer, outboxPublisher);
+
+    @BeforeEach
+    void setUp() {
+        // 커밋 이후 캐시 무효화 등록에 필요한 트랜잭션 동기화
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void applyDiscountPublishesPriceChangedEvent() {
+        givenProduct(new BigDecimal("30000"), null);
+
+        productUpdateService.applyDiscount(PRODUCT_ID, new BigDecimal("25000"));
+
+        ProductPriceChangedEvent event = capturePublishedEvent();
+        assertEquals(PRODUCT_ID, event.getProductId());
+        assertEquals(0, new BigDecimal("30000").compareTo(event.getPreviousPrice()));
+        assertEquals(0, new BigDecimal("25000").compareTo(event.getEffectivePrice()));
+    }
+
+    @Test
+    void removeDiscountPublishesPriceChangedEvent() {
+        givenProduct(new BigDecimal("30000"), new BigDecimal("25000"));
+
+        productUpdateService.removeDiscount(PRODUCT_ID);
+
+        ProductPriceChangedEvent event = capturePublishedEvent();
+        assertEquals(0, new BigDecimal("25000").compareTo(event.getPreviousPrice()));
+        assertEquals(0, new BigDecimal("30000").compareTo(event.getEffectivePrice()));
+    }
+
+    @Test
+    void basicInfoChangeWithSamePriceDoesNotPublish() {
+        givenProduct(new BigDecimal("30000"), null);
+
+        productUpdateService.updateBasicInfo(PRODUCT_ID, "새 이름", "새 설명", new BigDecimal("30000.00"));
+
+        verify(outboxPublisher, never()).publish(anyString(), any(), anyString(), any());
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+    }
+
+    @Test
+    void listPriceChangeHiddenByDiscountDoesNotPublish() {
+        givenProduct(new BigDecimal("30000"), new BigDecimal("25000"));
+
+        productUpdateService.updateBasicInfo(PRODUCT_ID, "상품", "설명", new BigDecimal("32000"));
+
+        verify(outboxPublisher, never()).publish(anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    void missingProductThrows() {
+        when(productRepository.findByIdForUpdate(PRODUCT_ID)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class,
+                () -> productUpdateService.applyDiscount(PRODUCT_ID, new BigDecimal("1000")));
+        verify(outboxPublisher, never()).publish(anyString(), any(), anyString(), any());
+    }
+
+    private void givenProduct(BigDecimal price, BigDecimal discountPrice) {
+        Product product = Product.builder()
+                .id(PRODUCT_ID)
+                .name("상품")
+                .description("설명")
+                .price(price)
+                .discountPrice(discountPrice)
+                .build();
+        when(productRepository.findByIdForUpdate(PRODUCT_ID)).thenReturn(Optional.of(product));
+    }
+
+    private ProductPriceChangedEvent capturePublishedEvent() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(outboxPublisher).publish(eq(ProductPriceChangedEvent.AGGREGATE_TYPE), eq(PRODUCT_ID),
+                eq(ProductPriceChangedEvent.TYPE), payload.capture());
+        return (ProductPriceChangedEvent) payload.getValue();
+    }
+}
@@ -60,7 +60,8 @@ CREATE TABLE IF NOT EXISTS `user_addresses` (
 CREATE TABLE IF NOT EXISTS `refresh_tokens` (
   `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT 'Refresh Token 고유 ID',
   `user_id` BIGINT NOT NULL COMMENT '사용자 ID (users 테이블 참조)',
-  `token` VARCHAR(500) NOT NULL UNIQUE COMMENT 'Refresh Token 값',
+  `token` VARCHAR(500) NULL UNIQUE COMMENT 'Refresh Token 값 (이전 버전 발급분, 신규 토큰은 해시만 저장)',
+  `token_hash` CHAR(64) NULL UNIQUE COMMENT 'Refresh Token SHA-256 해시 (hex)',
   `expires_at` TIMESTAMP NOT NULL COMMENT 'Token 만료 일시',
   `is_revoked` BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'Token 폐기 여부',
   `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT 'Token 생성 일시',
@@ -129,7 +130,8 @@ CREATE TABLE IF NOT EXISTS `products` (
   INDEX `idx_category` (`category_id`) COMMENT '카테고리별 상품 검색용 인덱스',
   INDEX `idx_status` (`status`) COMMENT '상품 상태별 검색용 인덱스',
   INDEX `idx_featured` (`is_featured`) COMMENT '추천 상품 검색용 인덱스',
-  INDEX `idx_price` (`price`) COMMENT '가격 범위별 검색용 인덱스'
+  INDEX `idx_price` (`price`) COMMENT '가격 범위별 검색용 인덱스',
+  INDEX `idx_status_created` (`status`, `created_at`, `id`) COMMENT '상품 목록 커서 페이징용 인덱스'
 ) ENGINE=InnoDB COMMENT='상품 정보 테이블';
 
 -- ===========================================
@@ -185,6 +187,7 @@ INSERT INTO `categories` (`name`, `parent_id`, `level`, `sort_order`, `descripti
 CREATE TABLE IF NOT EXISTS `carts` (
   `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '장바구니 고유 ID',
   `user_id` BIGINT NOT NULL COMMENT '고객 ID (users 테이블 참조)',
+  `store_version` BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 반영한 Redis 장바구니 버전 (이전 스냅샷 반영 방지)',
   `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '장바구니 생성일시',
   `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '장바구니 수정일시',
   FOREIGN KEY (`user_id`) REFERENCES `users`(`id`) ON DELETE CASCADE,
@@ -257,7 +260,8 @@ CREATE TABLE IF NOT EXISTS `orders` (
   INDEX `idx_order_number` (`order_number`) COMMENT '주문번호 검색용 인덱스',
   INDEX `idx_order_status` (`order_status`) COMMENT '주문 상태별 검색용 인덱스',
   INDEX `idx_payment_status` (`payment_status`) COMMENT '결제 상태별 검색용 인덱스',
-  INDEX `idx_ordered_at` (`ordered_at`) COMMENT '주문일시별 검색용 인덱스'
+  INDEX `idx_ordered_at` (`ordered_at`) COMMENT '주문일시별 검색용 인덱스',
+  INDEX `idx_user_created` (`user_id`, `created_at`, `id`) COMMENT '고객별 주문 커서 페이징용 인덱스'
 ) ENGINE=InnoDB COMMENT='주문 정보 테이블';
 
 -- 주문 상품 테이블
@@ -376,6 +380,25 @@ CREATE TABLE IF NOT EXISTS `deliveries` (
   INDEX `idx_delivery_status` (`delivery_status`) COMMENT '배송 상태별 검색용 인덱스'
 ) ENGINE=InnoDB COMMENT='배송 추적 정보 테이블';
 
+-- 트랜잭셔널 아웃박스 테이블
+CREATE TABLE IF NOT EXISTS `outbox_events` (
+  `id` BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '이벤트 고유 ID (발행 순서)',
+  `aggregate_type` VARCHAR(50) NOT NULL COMMENT '이벤트 발생 대상 유형 (예: ORDER)',
+  `aggregate_id` VARCHAR(100) NOT NULL COMMENT '이벤트 발생 대상 ID',
+  `event_type` VARCHAR(100) NOT NULL COMMENT '이벤트 유형 (예: ORDER_CREATED)',
+  `payload` TEXT NOT NULL COMMENT '이벤트 내용 (JSON)',
+  `status` ENUM('PENDING', 'DONE', 'FAILED') NOT NULL DEFAULT 'PENDING' COMMENT '처리 상태',
+  `attempts` INT NOT NULL DEFAULT 0 COMMENT '처리 시도 횟수',
+  `available_at` TIMESTAMP(3) NOT NULL COMMENT '다음 처리 가능 일시 (처리 중 임대 만료/재시도 시각)',
+  `last_error` VARCHAR(500) COMMENT '마지막 처리 실패 사유',
+  `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '이벤트 생성일시',
+  `processed_at` TIMESTAMP NULL COMMENT '처리 완료 일시',
+
+  INDEX `idx_status_available` (`status`, `available_at`, `id`) COMMENT '처리 대상 조회용 인덱스',
+  INDEX `idx_status_processed` (`status`, `processed_at`) COMMENT '완료 이벤트 정리용 인덱스',
+  INDEX `idx_aggregate` (`aggregate_type`, `aggregate_id`) COMMENT '대상별 이벤트 검색용 인덱스'
+) ENGINE=InnoDB COMMENT='주문 등 커밋 후 처리할 이벤트 아웃박스 테이블';
+
 -- 브랜드 초기 데이터
 INSERT INTO `brands` (`name`, `description`) VALUES
 ('POOROOM', 'POOROOM 자체 브랜드'),
@@ -428,7 +451,8 @@ CREATE TABLE IF NOT EXISTS `posts` (
   INDEX `idx_category_id` (`category_id`),
   INDEX `idx_user_id` (`user_id`),
   INDEX `idx_created_at` (`created_at`),
-  INDEX `idx_category_status` (`category_id`, `status`, `created_at`)
+  INDEX `idx_category_status` (`category_id`, `status`, `created_at`),
+  INDEX `idx_category_keyset` (`category_id`, `status`, `is_pinned`, `created_at`, `id`)
 ) ENGINE=InnoDB COMMENT='게시글 테이블';
 
 -- 댓글 테이블